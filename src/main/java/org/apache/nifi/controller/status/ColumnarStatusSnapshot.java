@@ -0,0 +1,963 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status;
+
+import org.apache.nifi.controller.status.analytics.ConnectionStatusPredictions;
+import org.apache.nifi.registry.flow.RegisteredFlowSnapshotMetadata;
+import org.apache.nifi.registry.flow.VersionedFlowState;
+import org.apache.nifi.scheduling.ExecutionNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A columnar representation of the status of a flow, intended for consumers that scan the counters of many components.
+ * Rather than one object per component, the snapshot holds one primitive array per metric for each kind of component,
+ * in which each component occupies a row. Identifiers, names and other strings are stored once in a shared string dictionary
+ * and referenced by index from <code>int[]</code> columns, enumerated values are stored as <code>int[]</code> columns of
+ * ordinals, and the Process Group of each component is referenced by its row in the group columns.
+ *
+ * <p>
+ * The arrays returned by this class are the snapshot's own storage and must not be modified. The details that have no
+ * primitive representation, namely processing performance, registered flow snapshot metadata, processor counters,
+ * connection predictions and queued duration histograms, are kept alongside the columns, so that the complete {@link ProcessGroupStatus}
+ * tree remains derivable by means of {@link #toProcessGroupStatus()}. Those that are mutable are copied when the snapshot is
+ * captured and again when the tree is derived, so the snapshot does not change as the status it was created from is updated.
+ * </p>
+ */
+public final class ColumnarStatusSnapshot {
+
+    /**
+     * Row index used to indicate the absence of a parent group, dictionary index used to indicate a <code>null</code> string,
+     * and ordinal used to indicate a <code>null</code> enumerated value
+     */
+    public static final int NONE = -1;
+
+    public enum GroupMetric {
+        INPUT_COUNT(status -> longValue(status.getInputCount()), (status, value) -> status.setInputCount((int) value)),
+        INPUT_CONTENT_SIZE(status -> longValue(status.getInputContentSize()), ProcessGroupStatus::setInputContentSize),
+        OUTPUT_COUNT(status -> longValue(status.getOutputCount()), (status, value) -> status.setOutputCount((int) value)),
+        OUTPUT_CONTENT_SIZE(status -> longValue(status.getOutputContentSize()), ProcessGroupStatus::setOutputContentSize),
+        QUEUED_COUNT(status -> longValue(status.getQueuedCount()), (status, value) -> status.setQueuedCount((int) value)),
+        QUEUED_CONTENT_SIZE(status -> longValue(status.getQueuedContentSize()), ProcessGroupStatus::setQueuedContentSize),
+        BYTES_READ(status -> longValue(status.getBytesRead()), ProcessGroupStatus::setBytesRead),
+        BYTES_WRITTEN(status -> longValue(status.getBytesWritten()), ProcessGroupStatus::setBytesWritten),
+        ACTIVE_THREAD_COUNT(status -> longValue(status.getActiveThreadCount()), (status, value) -> status.setActiveThreadCount((int) value)),
+        STATELESS_ACTIVE_THREAD_COUNT(status -> longValue(status.getStatelessActiveThreadCount()), (status, value) -> status.setStatelessActiveThreadCount((int) value)),
+        TERMINATED_THREAD_COUNT(status -> longValue(status.getTerminatedThreadCount()), (status, value) -> status.setTerminatedThreadCount((int) value)),
+        FLOWFILES_RECEIVED(ProcessGroupStatus::getFlowFilesReceived, (status, value) -> status.setFlowFilesReceived((int) value)),
+        BYTES_RECEIVED(ProcessGroupStatus::getBytesReceived, ProcessGroupStatus::setBytesReceived),
+        FLOWFILES_SENT(ProcessGroupStatus::getFlowFilesSent, (status, value) -> status.setFlowFilesSent((int) value)),
+        BYTES_SENT(ProcessGroupStatus::getBytesSent, ProcessGroupStatus::setBytesSent),
+        FLOWFILES_TRANSFERRED(ProcessGroupStatus::getFlowFilesTransferred, (status, value) -> status.setFlowFilesTransferred((int) value)),
+        BYTES_TRANSFERRED(ProcessGroupStatus::getBytesTransferred, ProcessGroupStatus::setBytesTransferred),
+        PROCESSING_NANOS(ProcessGroupStatus::getProcessingNanos, ProcessGroupStatus::setProcessingNanos);
+
+        private final ToLongFunction<ProcessGroupStatus> getter;
+        private final ObjLongConsumer<ProcessGroupStatus> setter;
+
+        GroupMetric(final ToLongFunction<ProcessGroupStatus> getter, final ObjLongConsumer<ProcessGroupStatus> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    public enum ProcessorMetric {
+        INPUT_COUNT(ProcessorStatus::getInputCount, (status, value) -> status.setInputCount((int) value)),
+        INPUT_BYTES(ProcessorStatus::getInputBytes, ProcessorStatus::setInputBytes),
+        OUTPUT_COUNT(ProcessorStatus::getOutputCount, (status, value) -> status.setOutputCount((int) value)),
+        OUTPUT_BYTES(ProcessorStatus::getOutputBytes, ProcessorStatus::setOutputBytes),
+        BYTES_READ(ProcessorStatus::getBytesRead, ProcessorStatus::setBytesRead),
+        BYTES_WRITTEN(ProcessorStatus::getBytesWritten, ProcessorStatus::setBytesWritten),
+        INVOCATIONS(ProcessorStatus::getInvocations, (status, value) -> status.setInvocations((int) value)),
+        PROCESSING_NANOS(ProcessorStatus::getProcessingNanos, ProcessorStatus::setProcessingNanos),
+        FLOWFILES_REMOVED(ProcessorStatus::getFlowFilesRemoved, (status, value) -> status.setFlowFilesRemoved((int) value)),
+        AVERAGE_LINEAGE_DURATION(status -> status.getAverageLineageDuration(), (status, value) -> status.setAverageLineageDuration(value)),
+        ACTIVE_THREAD_COUNT(ProcessorStatus::getActiveThreadCount, (status, value) -> status.setActiveThreadCount((int) value)),
+        TERMINATED_THREAD_COUNT(ProcessorStatus::getTerminatedThreadCount, (status, value) -> status.setTerminatedThreadCount((int) value)),
+        FLOWFILES_RECEIVED(ProcessorStatus::getFlowFilesReceived, (status, value) -> status.setFlowFilesReceived((int) value)),
+        BYTES_RECEIVED(ProcessorStatus::getBytesReceived, ProcessorStatus::setBytesReceived),
+        FLOWFILES_SENT(ProcessorStatus::getFlowFilesSent, (status, value) -> status.setFlowFilesSent((int) value)),
+        BYTES_SENT(ProcessorStatus::getBytesSent, ProcessorStatus::setBytesSent);
+
+        private final ToLongFunction<ProcessorStatus> getter;
+        private final ObjLongConsumer<ProcessorStatus> setter;
+
+        ProcessorMetric(final ToLongFunction<ProcessorStatus> getter, final ObjLongConsumer<ProcessorStatus> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    public enum ConnectionMetric {
+        INPUT_COUNT(ConnectionStatus::getInputCount, (status, value) -> status.setInputCount((int) value)),
+        INPUT_BYTES(ConnectionStatus::getInputBytes, ConnectionStatus::setInputBytes),
+        OUTPUT_COUNT(ConnectionStatus::getOutputCount, (status, value) -> status.setOutputCount((int) value)),
+        OUTPUT_BYTES(ConnectionStatus::getOutputBytes, ConnectionStatus::setOutputBytes),
+        QUEUED_COUNT(ConnectionStatus::getQueuedCount, (status, value) -> status.setQueuedCount((int) value)),
+        QUEUED_BYTES(ConnectionStatus::getQueuedBytes, ConnectionStatus::setQueuedBytes),
+        MAX_QUEUED_COUNT(ConnectionStatus::getMaxQueuedCount, (status, value) -> status.setMaxQueuedCount((int) value)),
+        MAX_QUEUED_BYTES(ConnectionStatus::getMaxQueuedBytes, ConnectionStatus::setMaxQueuedBytes),
+        TOTAL_QUEUED_DURATION(ConnectionStatus::getTotalQueuedDuration, ConnectionStatus::setTotalQueuedDuration),
+        MAX_QUEUED_DURATION(ConnectionStatus::getMaxQueuedDuration, ConnectionStatus::setMaxQueuedDuration),
+        BACK_PRESSURE_OBJECT_THRESHOLD(ConnectionStatus::getBackPressureObjectThreshold, ConnectionStatus::setBackPressureObjectThreshold),
+        BACK_PRESSURE_BYTES_THRESHOLD(ConnectionStatus::getBackPressureBytesThreshold, ConnectionStatus::setBackPressureBytesThreshold);
+
+        private final ToLongFunction<ConnectionStatus> getter;
+        private final ObjLongConsumer<ConnectionStatus> setter;
+
+        ConnectionMetric(final ToLongFunction<ConnectionStatus> getter, final ObjLongConsumer<ConnectionStatus> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    /**
+     * Connection metrics that are rates, held in <code>double[]</code> columns
+     */
+    public enum ConnectionRateMetric {
+        ENQUEUE_RATE(ConnectionStatus::getEnqueueRate, ConnectionStatus::setEnqueueRate),
+        DEQUEUE_RATE(ConnectionStatus::getDequeueRate, ConnectionStatus::setDequeueRate);
+
+        private final ToDoubleFunction<ConnectionStatus> getter;
+        private final ObjDoubleConsumer<ConnectionStatus> setter;
+
+        ConnectionRateMetric(final ToDoubleFunction<ConnectionStatus> getter, final ObjDoubleConsumer<ConnectionStatus> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    public enum PortMetric {
+        INPUT_COUNT(PortStatus::getInputCount, (status, value) -> status.setInputCount((int) value)),
+        INPUT_BYTES(PortStatus::getInputBytes, PortStatus::setInputBytes),
+        OUTPUT_COUNT(PortStatus::getOutputCount, (status, value) -> status.setOutputCount((int) value)),
+        OUTPUT_BYTES(PortStatus::getOutputBytes, PortStatus::setOutputBytes),
+        ACTIVE_THREAD_COUNT(status -> longValue(status.getActiveThreadCount()), (status, value) -> status.setActiveThreadCount((int) value)),
+        FLOWFILES_RECEIVED(PortStatus::getFlowFilesReceived, (status, value) -> status.setFlowFilesReceived((int) value)),
+        BYTES_RECEIVED(PortStatus::getBytesReceived, PortStatus::setBytesReceived),
+        FLOWFILES_SENT(PortStatus::getFlowFilesSent, (status, value) -> status.setFlowFilesSent((int) value)),
+        BYTES_SENT(PortStatus::getBytesSent, PortStatus::setBytesSent);
+
+        private final ToLongFunction<PortStatus> getter;
+        private final ObjLongConsumer<PortStatus> setter;
+
+        PortMetric(final ToLongFunction<PortStatus> getter, final ObjLongConsumer<PortStatus> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    public enum RemoteProcessGroupMetric {
+        ACTIVE_THREAD_COUNT(status -> longValue(status.getActiveThreadCount()), (status, value) -> status.setActiveThreadCount((int) value)),
+        SENT_COUNT(RemoteProcessGroupStatus::getSentCount, (status, value) -> status.setSentCount((int) value)),
+        SENT_CONTENT_SIZE(RemoteProcessGroupStatus::getSentContentSize, RemoteProcessGroupStatus::setSentContentSize),
+        RECEIVED_COUNT(RemoteProcessGroupStatus::getReceivedCount, (status, value) -> status.setReceivedCount((int) value)),
+        RECEIVED_CONTENT_SIZE(RemoteProcessGroupStatus::getReceivedContentSize, RemoteProcessGroupStatus::setReceivedContentSize),
+        ACTIVE_REMOTE_PORT_COUNT(status -> longValue(status.getActiveRemotePortCount()), (status, value) -> status.setActiveRemotePortCount((int) value)),
+        INACTIVE_REMOTE_PORT_COUNT(status -> longValue(status.getInactiveRemotePortCount()), (status, value) -> status.setInactiveRemotePortCount((int) value)),
+        AVERAGE_LINEAGE_DURATION(status -> status.getAverageLineageDuration(), (status, value) -> status.setAverageLineageDuration(value)),
+        /**
+         * The time of the last refresh in milliseconds since the epoch, or {@link ColumnarStatusSnapshot#NONE} if unknown
+         */
+        LAST_REFRESH_TIME(status -> status.getLastRefreshTime() == null ? NONE : status.getLastRefreshTime().getTime(),
+                (status, value) -> status.setLastRefreshTime(value == NONE ? null : new Date(value)));
+
+        private final ToLongFunction<RemoteProcessGroupStatus> getter;
+        private final ObjLongConsumer<RemoteProcessGroupStatus> setter;
+
+        RemoteProcessGroupMetric(final ToLongFunction<RemoteProcessGroupStatus> getter, final ObjLongConsumer<RemoteProcessGroupStatus> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    private static final RunStatus[] RUN_STATUSES = RunStatus.values();
+    private static final VersionedFlowState[] VERSIONED_FLOW_STATES = VersionedFlowState.values();
+    private static final ExecutionNode[] EXECUTION_NODES = ExecutionNode.values();
+    private static final FlowFileAvailability[] FLOWFILE_AVAILABILITIES = FlowFileAvailability.values();
+    private static final LoadBalanceStatus[] LOAD_BALANCE_STATUSES = LoadBalanceStatus.values();
+    private static final TransmissionStatus[] TRANSMISSION_STATUSES = TransmissionStatus.values();
+
+    private final String[] dictionary;
+
+    private final int[] groupIds;
+    private final int[] groupNames;
+    private final int[] groupParents;
+    private final int[] groupVersionedFlowStates;
+    private final long[][] groupColumns;
+    private final RegisteredFlowSnapshotMetadata[] groupFlowSnapshotMetadata;
+    private final ProcessingPerformanceStatus[] groupPerformance;
+
+    private final int[] processorIds;
+    private final int[] processorNames;
+    private final int[] processorTypes;
+    private final int[] processorGroups;
+    private final int[] processorRunStatuses;
+    private final int[] processorExecutionNodes;
+    private final long[][] processorColumns;
+    private final Map<?, ?>[] processorCounters;
+    private final ProcessingPerformanceStatus[] processorPerformance;
+
+    private final int[] connectionIds;
+    private final int[] connectionNames;
+    private final int[] connectionGroups;
+    private final int[] connectionSourceIds;
+    private final int[] connectionSourceNames;
+    private final int[] connectionDestinationIds;
+    private final int[] connectionDestinationNames;
+    private final int[] connectionBackPressureDataSizeThresholds;
+    private final int[] connectionFlowFileAvailabilities;
+    private final int[] connectionLoadBalanceStatuses;
+    private final long[][] connectionColumns;
+    private final double[][] connectionRateColumns;
+    private final ConnectionStatusPredictions[] connectionPredictions;
+    private final LatencyHistogram[] connectionQueuedDurationHistograms;
+
+    private final int[] portIds;
+    private final int[] portNames;
+    private final int[] portGroups;
+    private final int[] portRunStatuses;
+    private final int[] portTransmitting;
+    private final boolean[] portInputs;
+    private final long[][] portColumns;
+
+    private final int[] remoteProcessGroupIds;
+    private final int[] remoteProcessGroupNames;
+    private final int[] remoteProcessGroupGroups;
+    private final int[] remoteProcessGroupUris;
+    private final int[] remoteProcessGroupComments;
+    private final int[] remoteProcessGroupAuthorizationIssues;
+    private final int[] remoteProcessGroupTransmissionStatuses;
+    private final long[][] remoteProcessGroupColumns;
+
+    private ColumnarStatusSnapshot(final Builder builder) {
+        final int groupCount = builder.groups.size();
+        this.groupIds = new int[groupCount];
+        this.groupNames = new int[groupCount];
+        this.groupParents = Arrays.copyOf(builder.groupParents.values, groupCount);
+        this.groupVersionedFlowStates = new int[groupCount];
+        this.groupColumns = new long[GroupMetric.values().length][groupCount];
+        this.groupFlowSnapshotMetadata = new RegisteredFlowSnapshotMetadata[groupCount];
+        this.groupPerformance = new ProcessingPerformanceStatus[groupCount];
+
+        final int processorCount = builder.processors.size();
+        this.processorIds = new int[processorCount];
+        this.processorNames = new int[processorCount];
+        this.processorTypes = new int[processorCount];
+        this.processorGroups = Arrays.copyOf(builder.processorGroups.values, processorCount);
+        this.processorRunStatuses = new int[processorCount];
+        this.processorExecutionNodes = new int[processorCount];
+        this.processorColumns = new long[ProcessorMetric.values().length][processorCount];
+        this.processorCounters = new Map<?, ?>[processorCount];
+        this.processorPerformance = new ProcessingPerformanceStatus[processorCount];
+
+        final int connectionCount = builder.connections.size();
+        this.connectionIds = new int[connectionCount];
+        this.connectionNames = new int[connectionCount];
+        this.connectionGroups = Arrays.copyOf(builder.connectionGroups.values, connectionCount);
+        this.connectionSourceIds = new int[connectionCount];
+        this.connectionSourceNames = new int[connectionCount];
+        this.connectionDestinationIds = new int[connectionCount];
+        this.connectionDestinationNames = new int[connectionCount];
+        this.connectionBackPressureDataSizeThresholds = new int[connectionCount];
+        this.connectionFlowFileAvailabilities = new int[connectionCount];
+        this.connectionLoadBalanceStatuses = new int[connectionCount];
+        this.connectionColumns = new long[ConnectionMetric.values().length][connectionCount];
+        this.connectionRateColumns = new double[ConnectionRateMetric.values().length][connectionCount];
+        this.connectionPredictions = new ConnectionStatusPredictions[connectionCount];
+        this.connectionQueuedDurationHistograms = new LatencyHistogram[connectionCount];
+
+        final int portCount = builder.ports.size();
+        this.portIds = new int[portCount];
+        this.portNames = new int[portCount];
+        this.portGroups = Arrays.copyOf(builder.portGroups.values, portCount);
+        this.portRunStatuses = new int[portCount];
+        this.portTransmitting = new int[portCount];
+        this.portInputs = new boolean[portCount];
+        this.portColumns = new long[PortMetric.values().length][portCount];
+
+        final int remoteProcessGroupCount = builder.remoteProcessGroups.size();
+        this.remoteProcessGroupIds = new int[remoteProcessGroupCount];
+        this.remoteProcessGroupNames = new int[remoteProcessGroupCount];
+        this.remoteProcessGroupGroups = Arrays.copyOf(builder.remoteProcessGroupGroups.values, remoteProcessGroupCount);
+        this.remoteProcessGroupUris = new int[remoteProcessGroupCount];
+        this.remoteProcessGroupComments = new int[remoteProcessGroupCount];
+        this.remoteProcessGroupAuthorizationIssues = new int[remoteProcessGroupCount];
+        this.remoteProcessGroupTransmissionStatuses = new int[remoteProcessGroupCount];
+        this.remoteProcessGroupColumns = new long[RemoteProcessGroupMetric.values().length][remoteProcessGroupCount];
+
+        builder.populate(this);
+        this.dictionary = builder.dictionary.toArray(new String[0]);
+    }
+
+    /**
+     * Creates a columnar snapshot from the given status tree
+     *
+     * @param rootStatus the status of the root Process Group
+     * @return the columnar snapshot
+     */
+    public static ColumnarStatusSnapshot of(final ProcessGroupStatus rootStatus) {
+        Objects.requireNonNull(rootStatus, "Root Process Group Status is required");
+        final Builder builder = new Builder();
+        builder.addGroup(rootStatus, NONE);
+        return new ColumnarStatusSnapshot(builder);
+    }
+
+    /**
+     * @param index the dictionary index
+     * @return the string at the given dictionary index, or <code>null</code> if the index is {@link #NONE}
+     */
+    public String getString(final int index) {
+        return index == NONE ? null : dictionary[index];
+    }
+
+    /**
+     * @return the number of distinct strings in the dictionary
+     */
+    public int getDictionarySize() {
+        return dictionary.length;
+    }
+
+    /**
+     * @return the number of Process Group rows; row 0 is the root Process Group
+     */
+    public int getGroupCount() {
+        return groupIds.length;
+    }
+
+    /**
+     * @return the dictionary index of the identifier of each Process Group
+     */
+    public int[] getGroupIds() {
+        return groupIds;
+    }
+
+    /**
+     * @return the dictionary index of the name of each Process Group
+     */
+    public int[] getGroupNames() {
+        return groupNames;
+    }
+
+    /**
+     * @return the row of the parent of each Process Group, or {@link #NONE} for the root Process Group
+     */
+    public int[] getGroupParents() {
+        return groupParents;
+    }
+
+    /**
+     * @return the ordinal of the {@link VersionedFlowState} of each Process Group, or {@link #NONE} if not under version control
+     */
+    public int[] getGroupVersionedFlowStates() {
+        return groupVersionedFlowStates;
+    }
+
+    /**
+     * @param metric the metric
+     * @return the value of the given metric for each Process Group
+     */
+    public long[] getGroupColumn(final GroupMetric metric) {
+        return groupColumns[metric.ordinal()];
+    }
+
+    /**
+     * @return the number of Processor rows
+     */
+    public int getProcessorCount() {
+        return processorIds.length;
+    }
+
+    /**
+     * @return the dictionary index of the identifier of each Processor
+     */
+    public int[] getProcessorIds() {
+        return processorIds;
+    }
+
+    /**
+     * @return the dictionary index of the name of each Processor
+     */
+    public int[] getProcessorNames() {
+        return processorNames;
+    }
+
+    /**
+     * @return the dictionary index of the type of each Processor
+     */
+    public int[] getProcessorTypes() {
+        return processorTypes;
+    }
+
+    /**
+     * @return the Process Group row of each Processor
+     */
+    public int[] getProcessorGroups() {
+        return processorGroups;
+    }
+
+    /**
+     * @return the ordinal of the {@link RunStatus} of each Processor, or {@link #NONE} if unknown
+     */
+    public int[] getProcessorRunStatuses() {
+        return processorRunStatuses;
+    }
+
+    /**
+     * @return the ordinal of the {@link ExecutionNode} of each Processor, or {@link #NONE} if unknown
+     */
+    public int[] getProcessorExecutionNodes() {
+        return processorExecutionNodes;
+    }
+
+    /**
+     * @param metric the metric
+     * @return the value of the given metric for each Processor
+     */
+    public long[] getProcessorColumn(final ProcessorMetric metric) {
+        return processorColumns[metric.ordinal()];
+    }
+
+    /**
+     * @return the number of Connection rows
+     */
+    public int getConnectionCount() {
+        return connectionIds.length;
+    }
+
+    /**
+     * @return the dictionary index of the identifier of each Connection
+     */
+    public int[] getConnectionIds() {
+        return connectionIds;
+    }
+
+    /**
+     * @return the dictionary index of the name of each Connection
+     */
+    public int[] getConnectionNames() {
+        return connectionNames;
+    }
+
+    /**
+     * @return the Process Group row of each Connection
+     */
+    public int[] getConnectionGroups() {
+        return connectionGroups;
+    }
+
+    /**
+     * @return the dictionary index of the identifier of the source of each Connection
+     */
+    public int[] getConnectionSourceIds() {
+        return connectionSourceIds;
+    }
+
+    /**
+     * @return the dictionary index of the name of the source of each Connection
+     */
+    public int[] getConnectionSourceNames() {
+        return connectionSourceNames;
+    }
+
+    /**
+     * @return the dictionary index of the identifier of the destination of each Connection
+     */
+    public int[] getConnectionDestinationIds() {
+        return connectionDestinationIds;
+    }
+
+    /**
+     * @return the dictionary index of the name of the destination of each Connection
+     */
+    public int[] getConnectionDestinationNames() {
+        return connectionDestinationNames;
+    }
+
+    /**
+     * @return the dictionary index of the configured back pressure data size threshold of each Connection, such as <code>1 GB</code>
+     */
+    public int[] getConnectionBackPressureDataSizeThresholds() {
+        return connectionBackPressureDataSizeThresholds;
+    }
+
+    /**
+     * @return the ordinal of the {@link FlowFileAvailability} of each Connection, or {@link #NONE} if unknown
+     */
+    public int[] getConnectionFlowFileAvailabilities() {
+        return connectionFlowFileAvailabilities;
+    }
+
+    /**
+     * @return the ordinal of the {@link LoadBalanceStatus} of each Connection, or {@link #NONE} if unknown
+     */
+    public int[] getConnectionLoadBalanceStatuses() {
+        return connectionLoadBalanceStatuses;
+    }
+
+    /**
+     * @param metric the metric
+     * @return the value of the given metric for each Connection
+     */
+    public long[] getConnectionColumn(final ConnectionMetric metric) {
+        return connectionColumns[metric.ordinal()];
+    }
+
+    /**
+     * @param metric the rate metric
+     * @return the value of the given rate metric, in FlowFiles per second, for each Connection
+     */
+    public double[] getConnectionColumn(final ConnectionRateMetric metric) {
+        return connectionRateColumns[metric.ordinal()];
+    }
+
+    /**
+     * @return the number of Port rows, including both Input and Output Ports
+     */
+    public int getPortCount() {
+        return portIds.length;
+    }
+
+    /**
+     * @return the dictionary index of the identifier of each Port
+     */
+    public int[] getPortIds() {
+        return portIds;
+    }
+
+    /**
+     * @return the dictionary index of the name of each Port
+     */
+    public int[] getPortNames() {
+        return portNames;
+    }
+
+    /**
+     * @return the Process Group row of each Port
+     */
+    public int[] getPortGroups() {
+        return portGroups;
+    }
+
+    /**
+     * @return whether each Port is an Input Port, as opposed to an Output Port
+     */
+    public boolean[] getPortInputs() {
+        return portInputs;
+    }
+
+    /**
+     * @return the ordinal of the {@link RunStatus} of each Port, or {@link #NONE} if unknown
+     */
+    public int[] getPortRunStatuses() {
+        return portRunStatuses;
+    }
+
+    /**
+     * @return whether each Port is transmitting, as <code>1</code> or <code>0</code>, or {@link #NONE} if unknown
+     */
+    public int[] getPortTransmitting() {
+        return portTransmitting;
+    }
+
+    /**
+     * @param metric the metric
+     * @return the value of the given metric for each Port
+     */
+    public long[] getPortColumn(final PortMetric metric) {
+        return portColumns[metric.ordinal()];
+    }
+
+    /**
+     * @return the number of Remote Process Group rows
+     */
+    public int getRemoteProcessGroupCount() {
+        return remoteProcessGroupIds.length;
+    }
+
+    /**
+     * @return the dictionary index of the identifier of each Remote Process Group
+     */
+    public int[] getRemoteProcessGroupIds() {
+        return remoteProcessGroupIds;
+    }
+
+    /**
+     * @return the dictionary index of the name of each Remote Process Group
+     */
+    public int[] getRemoteProcessGroupNames() {
+        return remoteProcessGroupNames;
+    }
+
+    /**
+     * @return the Process Group row of each Remote Process Group
+     */
+    public int[] getRemoteProcessGroupGroups() {
+        return remoteProcessGroupGroups;
+    }
+
+    /**
+     * @return the dictionary index of the target URI of each Remote Process Group
+     */
+    public int[] getRemoteProcessGroupUris() {
+        return remoteProcessGroupUris;
+    }
+
+    /**
+     * @return the dictionary index of the comments of each Remote Process Group
+     */
+    public int[] getRemoteProcessGroupComments() {
+        return remoteProcessGroupComments;
+    }
+
+    /**
+     * @return the dictionary index of the authorization issue of each Remote Process Group
+     */
+    public int[] getRemoteProcessGroupAuthorizationIssues() {
+        return remoteProcessGroupAuthorizationIssues;
+    }
+
+    /**
+     * @return the ordinal of the {@link TransmissionStatus} of each Remote Process Group, or {@link #NONE} if unknown
+     */
+    public int[] getRemoteProcessGroupTransmissionStatuses() {
+        return remoteProcessGroupTransmissionStatuses;
+    }
+
+    /**
+     * @param metric the metric
+     * @return the value of the given metric for each Remote Process Group
+     */
+    public long[] getRemoteProcessGroupColumn(final RemoteProcessGroupMetric metric) {
+        return remoteProcessGroupColumns[metric.ordinal()];
+    }
+
+    /**
+     * Creates the {@link ProcessGroupStatus} tree described by this snapshot. The details retained by reference are copied,
+     * so that the tree may be modified without affecting the snapshot.
+     *
+     * @return the status of the root Process Group
+     */
+    public ProcessGroupStatus toProcessGroupStatus() {
+        final int groupCount = getGroupCount();
+        final ProcessGroupStatus[] groups = new ProcessGroupStatus[groupCount];
+        final List<List<ProcessGroupStatus>> children = new ArrayList<>(groupCount);
+        final List<List<ProcessorStatus>> processors = new ArrayList<>(groupCount);
+        final List<List<ConnectionStatus>> connections = new ArrayList<>(groupCount);
+        final List<List<PortStatus>> inputPorts = new ArrayList<>(groupCount);
+        final List<List<PortStatus>> outputPorts = new ArrayList<>(groupCount);
+        final List<List<RemoteProcessGroupStatus>> remoteProcessGroups = new ArrayList<>(groupCount);
+
+        for (int row = 0; row < groupCount; row++) {
+            final ProcessGroupStatus group = new ProcessGroupStatus();
+            group.setId(getString(groupIds[row]));
+            group.setName(getString(groupNames[row]));
+            group.setVersionedFlowState(fromOrdinal(VERSIONED_FLOW_STATES, groupVersionedFlowStates[row]));
+            group.setRegisteredFlowSnapshotMetadata(groupFlowSnapshotMetadata[row]);
+            group.setProcessingPerformanceStatus(clonePerformance(groupPerformance[row]));
+            for (final GroupMetric metric : GroupMetric.values()) {
+                metric.setter.accept(group, groupColumns[metric.ordinal()][row]);
+            }
+            groups[row] = group;
+
+            children.add(new ArrayList<>());
+            processors.add(new ArrayList<>());
+            connections.add(new ArrayList<>());
+            inputPorts.add(new ArrayList<>());
+            outputPorts.add(new ArrayList<>());
+            remoteProcessGroups.add(new ArrayList<>());
+
+            if (groupParents[row] != NONE) {
+                children.get(groupParents[row]).add(group);
+            }
+        }
+
+        for (int row = 0; row < processorIds.length; row++) {
+            final ProcessorStatus processor = new ProcessorStatus();
+            processor.setId(getString(processorIds[row]));
+            processor.setName(getString(processorNames[row]));
+            processor.setType(getString(processorTypes[row]));
+            processor.setGroupId(groups[processorGroups[row]].getId());
+            processor.setRunStatus(fromOrdinal(RUN_STATUSES, processorRunStatuses[row]));
+            processor.setExecutionNode(fromOrdinal(EXECUTION_NODES, processorExecutionNodes[row]));
+            processor.setCounters(cloneCounters(processorCounters[row]));
+            processor.setProcessingPerformanceStatus(clonePerformance(processorPerformance[row]));
+            for (final ProcessorMetric metric : ProcessorMetric.values()) {
+                metric.setter.accept(processor, processorColumns[metric.ordinal()][row]);
+            }
+            processors.get(processorGroups[row]).add(processor);
+        }
+
+        for (int row = 0; row < connectionIds.length; row++) {
+            final ConnectionStatus connection = new ConnectionStatus();
+            connection.setId(getString(connectionIds[row]));
+            connection.setName(getString(connectionNames[row]));
+            connection.setGroupId(groups[connectionGroups[row]].getId());
+            connection.setSourceId(getString(connectionSourceIds[row]));
+            connection.setSourceName(getString(connectionSourceNames[row]));
+            connection.setDestinationId(getString(connectionDestinationIds[row]));
+            connection.setDestinationName(getString(connectionDestinationNames[row]));
+            final String backPressureDataSizeThreshold = getString(connectionBackPressureDataSizeThresholds[row]);
+            if (backPressureDataSizeThreshold != null) {
+                connection.setBackPressureDataSizeThreshold(backPressureDataSizeThreshold);
+            }
+            connection.setFlowFileAvailability(fromOrdinal(FLOWFILE_AVAILABILITIES, connectionFlowFileAvailabilities[row]));
+            connection.setLoadBalanceStatus(fromOrdinal(LOAD_BALANCE_STATUSES, connectionLoadBalanceStatuses[row]));
+            connection.setPredictions(clonePredictions(connectionPredictions[row]));
+            connection.setQueuedDurationHistogram(cloneHistogram(connectionQueuedDurationHistograms[row]));
+            for (final ConnectionMetric metric : ConnectionMetric.values()) {
+                metric.setter.accept(connection, connectionColumns[metric.ordinal()][row]);
+            }
+            for (final ConnectionRateMetric metric : ConnectionRateMetric.values()) {
+                metric.setter.accept(connection, connectionRateColumns[metric.ordinal()][row]);
+            }
+            connections.get(connectionGroups[row]).add(connection);
+        }
+
+        for (int row = 0; row < portIds.length; row++) {
+            final PortStatus port = new PortStatus();
+            port.setId(getString(portIds[row]));
+            port.setName(getString(portNames[row]));
+            port.setGroupId(groups[portGroups[row]].getId());
+            port.setRunStatus(fromOrdinal(RUN_STATUSES, portRunStatuses[row]));
+            port.setTransmitting(portTransmitting[row] == NONE ? null : portTransmitting[row] == 1);
+            for (final PortMetric metric : PortMetric.values()) {
+                metric.setter.accept(port, portColumns[metric.ordinal()][row]);
+            }
+            (portInputs[row] ? inputPorts : outputPorts).get(portGroups[row]).add(port);
+        }
+
+        for (int row = 0; row < remoteProcessGroupIds.length; row++) {
+            final RemoteProcessGroupStatus remoteProcessGroup = new RemoteProcessGroupStatus();
+            remoteProcessGroup.setId(getString(remoteProcessGroupIds[row]));
+            remoteProcessGroup.setName(getString(remoteProcessGroupNames[row]));
+            remoteProcessGroup.setGroupId(groups[remoteProcessGroupGroups[row]].getId());
+            remoteProcessGroup.setTargetUri(getString(remoteProcessGroupUris[row]));
+            remoteProcessGroup.setComments(getString(remoteProcessGroupComments[row]));
+            remoteProcessGroup.setAuthorizationIssue(getString(remoteProcessGroupAuthorizationIssues[row]));
+            remoteProcessGroup.setTransmissionStatus(fromOrdinal(TRANSMISSION_STATUSES, remoteProcessGroupTransmissionStatuses[row]));
+            for (final RemoteProcessGroupMetric metric : RemoteProcessGroupMetric.values()) {
+                metric.setter.accept(remoteProcessGroup, remoteProcessGroupColumns[metric.ordinal()][row]);
+            }
+            remoteProcessGroups.get(remoteProcessGroupGroups[row]).add(remoteProcessGroup);
+        }
+
+        for (int row = 0; row < groupCount; row++) {
+            groups[row].setProcessGroupStatus(children.get(row));
+            groups[row].setProcessorStatus(processors.get(row));
+            groups[row].setConnectionStatus(connections.get(row));
+            groups[row].setInputPortStatus(inputPorts.get(row));
+            groups[row].setOutputPortStatus(outputPorts.get(row));
+            groups[row].setRemoteProcessGroupStatus(remoteProcessGroups.get(row));
+        }
+
+        return groups[0];
+    }
+
+    private static long longValue(final Number value) {
+        return value == null ? 0L : value.longValue();
+    }
+
+    private static <E extends Enum<E>> E fromOrdinal(final E[] values, final int ordinal) {
+        return ordinal == NONE ? null : values[ordinal];
+    }
+
+    private static int toOrdinal(final Enum<?> value) {
+        return value == null ? NONE : value.ordinal();
+    }
+
+    private static ProcessingPerformanceStatus clonePerformance(final ProcessingPerformanceStatus performanceStatus) {
+        return performanceStatus == null ? null : performanceStatus.clone();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> cloneCounters(final Map<?, ?> counters) {
+        return counters == null ? null : new HashMap<>((Map<String, Long>) counters);
+    }
+
+    private static ConnectionStatusPredictions clonePredictions(final ConnectionStatusPredictions predictions) {
+        return predictions == null ? null : predictions.clone();
+    }
+
+    private static LatencyHistogram cloneHistogram(final LatencyHistogram histogram) {
+        return histogram == null ? null : histogram.clone();
+    }
+
+    /**
+     * Collects the rows of the snapshot while walking the status tree, so that the columns can be allocated at their exact size
+     */
+    private static class Builder {
+        private final Map<String, Integer> dictionaryIndexes = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private final List<ProcessGroupStatus> groups = new ArrayList<>();
+        private final IntColumn groupParents = new IntColumn();
+        private final List<ProcessorStatus> processors = new ArrayList<>();
+        private final IntColumn processorGroups = new IntColumn();
+        private final List<ConnectionStatus> connections = new ArrayList<>();
+        private final IntColumn connectionGroups = new IntColumn();
+        private final List<PortStatus> ports = new ArrayList<>();
+        private final IntColumn portGroups = new IntColumn();
+        private final BitSet portInputs = new BitSet();
+        private final List<RemoteProcessGroupStatus> remoteProcessGroups = new ArrayList<>();
+        private final IntColumn remoteProcessGroupGroups = new IntColumn();
+
+        private void addGroup(final ProcessGroupStatus group, final int parentRow) {
+            final int row = groups.size();
+            groups.add(group);
+            groupParents.add(parentRow);
+
+            for (final ProcessorStatus processor : group.getProcessorStatus()) {
+                processors.add(processor);
+                processorGroups.add(row);
+            }
+            for (final ConnectionStatus connection : group.getConnectionStatus()) {
+                connections.add(connection);
+                connectionGroups.add(row);
+            }
+            addPorts(group.getInputPortStatus(), row, true);
+            addPorts(group.getOutputPortStatus(), row, false);
+            for (final RemoteProcessGroupStatus remoteProcessGroup : group.getRemoteProcessGroupStatus()) {
+                remoteProcessGroups.add(remoteProcessGroup);
+                remoteProcessGroupGroups.add(row);
+            }
+
+            for (final ProcessGroupStatus child : group.getProcessGroupStatus()) {
+                addGroup(child, row);
+            }
+        }
+
+        private void addPorts(final Collection<PortStatus> groupPorts, final int row, final boolean input) {
+            for (final PortStatus port : groupPorts) {
+                portInputs.set(ports.size(), input);
+                ports.add(port);
+                portGroups.add(row);
+            }
+        }
+
+        private int index(final String value) {
+            if (value == null) {
+                return NONE;
+            }
+
+            return dictionaryIndexes.computeIfAbsent(value, key -> {
+                dictionary.add(key);
+                return dictionary.size() - 1;
+            });
+        }
+
+        private void populate(final ColumnarStatusSnapshot snapshot) {
+            for (int row = 0; row < groups.size(); row++) {
+                final ProcessGroupStatus group = groups.get(row);
+                snapshot.groupIds[row] = index(group.getId());
+                snapshot.groupNames[row] = index(group.getName());
+                snapshot.groupVersionedFlowStates[row] = toOrdinal(group.getVersionedFlowState());
+                snapshot.groupFlowSnapshotMetadata[row] = group.getRegisteredFlowSnapshotMetadata();
+                snapshot.groupPerformance[row] = clonePerformance(group.getProcessingPerformanceStatus());
+                for (final GroupMetric metric : GroupMetric.values()) {
+                    snapshot.groupColumns[metric.ordinal()][row] = metric.getter.applyAsLong(group);
+                }
+            }
+
+            for (int row = 0; row < processors.size(); row++) {
+                final ProcessorStatus processor = processors.get(row);
+                snapshot.processorIds[row] = index(processor.getId());
+                snapshot.processorNames[row] = index(processor.getName());
+                snapshot.processorTypes[row] = index(processor.getType());
+                snapshot.processorRunStatuses[row] = toOrdinal(processor.getRunStatus());
+                snapshot.processorExecutionNodes[row] = toOrdinal(processor.getExecutionNode());
+                snapshot.processorCounters[row] = cloneCounters(processor.getCounters());
+                snapshot.processorPerformance[row] = clonePerformance(processor.getProcessingPerformanceStatus());
+                for (final ProcessorMetric metric : ProcessorMetric.values()) {
+                    snapshot.processorColumns[metric.ordinal()][row] = metric.getter.applyAsLong(processor);
+                }
+            }
+
+            for (int row = 0; row < connections.size(); row++) {
+                final ConnectionStatus connection = connections.get(row);
+                snapshot.connectionIds[row] = index(connection.getId());
+                snapshot.connectionNames[row] = index(connection.getName());
+                snapshot.connectionSourceIds[row] = index(connection.getSourceId());
+                snapshot.connectionSourceNames[row] = index(connection.getSourceName());
+                snapshot.connectionDestinationIds[row] = index(connection.getDestinationId());
+                snapshot.connectionDestinationNames[row] = index(connection.getDestinationName());
+                snapshot.connectionBackPressureDataSizeThresholds[row] = index(connection.getBackPressureDataSizeThreshold());
+                snapshot.connectionFlowFileAvailabilities[row] = toOrdinal(connection.getFlowFileAvailability());
+                snapshot.connectionLoadBalanceStatuses[row] = toOrdinal(connection.getLoadBalanceStatus());
+                snapshot.connectionPredictions[row] = clonePredictions(connection.getPredictions());
+                snapshot.connectionQueuedDurationHistograms[row] = cloneHistogram(connection.getQueuedDurationHistogram());
+                for (final ConnectionMetric metric : ConnectionMetric.values()) {
+                    snapshot.connectionColumns[metric.ordinal()][row] = metric.getter.applyAsLong(connection);
+                }
+                for (final ConnectionRateMetric metric : ConnectionRateMetric.values()) {
+                    snapshot.connectionRateColumns[metric.ordinal()][row] = metric.getter.applyAsDouble(connection);
+                }
+            }
+
+            for (int row = 0; row < ports.size(); row++) {
+                final PortStatus port = ports.get(row);
+                snapshot.portIds[row] = index(port.getId());
+                snapshot.portNames[row] = index(port.getName());
+                snapshot.portRunStatuses[row] = toOrdinal(port.getRunStatus());
+                snapshot.portTransmitting[row] = port.getTransmitting() == null ? NONE : (port.getTransmitting() ? 1 : 0);
+                snapshot.portInputs[row] = portInputs.get(row);
+                for (final PortMetric metric : PortMetric.values()) {
+                    snapshot.portColumns[metric.ordinal()][row] = metric.getter.applyAsLong(port);
+                }
+            }
+
+            for (int row = 0; row < remoteProcessGroups.size(); row++) {
+                final RemoteProcessGroupStatus remoteProcessGroup = remoteProcessGroups.get(row);
+                snapshot.remoteProcessGroupIds[row] = index(remoteProcessGroup.getId());
+                snapshot.remoteProcessGroupNames[row] = index(remoteProcessGroup.getName());
+                snapshot.remoteProcessGroupUris[row] = index(remoteProcessGroup.getTargetUri());
+                snapshot.remoteProcessGroupComments[row] = index(remoteProcessGroup.getComments());
+                snapshot.remoteProcessGroupAuthorizationIssues[row] = index(remoteProcessGroup.getAuthorizationIssue());
+                snapshot.remoteProcessGroupTransmissionStatuses[row] = toOrdinal(remoteProcessGroup.getTransmissionStatus());
+                for (final RemoteProcessGroupMetric metric : RemoteProcessGroupMetric.values()) {
+                    snapshot.remoteProcessGroupColumns[metric.ordinal()][row] = metric.getter.applyAsLong(remoteProcessGroup);
+                }
+            }
+        }
+    }
+
+    /**
+     * A growable column of primitive <code>int</code> values, used to collect row references without boxing
+     */
+    private static class IntColumn {
+        private int[] values = new int[16];
+        private int size;
+
+        private void add(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
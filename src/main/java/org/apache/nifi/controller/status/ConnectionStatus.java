@@ -42,6 +42,9 @@ public class ConnectionStatus implements Cloneable {
     private long maxQueuedBytes;
     private long totalQueuedDuration;
     private long maxQueuedDuration;
+    private LatencyHistogram queuedDurationHistogram;
+    private double enqueueRate;
+    private double dequeueRate;
     private FlowFileAvailability flowFileAvailability;
     private LoadBalanceStatus loadBalanceStatus;
 
@@ -222,6 +225,39 @@ public class ConnectionStatus implements Cloneable {
         this.maxQueuedDuration = maxQueuedDuration;
     }
 
+    /**
+     * @return the distribution of the time, in milliseconds, that FlowFiles spent in this queue, or <code>null</code> if not tracked
+     */
+    public LatencyHistogram getQueuedDurationHistogram() {
+        return queuedDurationHistogram;
+    }
+
+    public void setQueuedDurationHistogram(LatencyHistogram queuedDurationHistogram) {
+        this.queuedDurationHistogram = queuedDurationHistogram;
+    }
+
+    /**
+     * @return the rate, in FlowFiles per second, at which FlowFiles were recently added to this queue
+     */
+    public double getEnqueueRate() {
+        return enqueueRate;
+    }
+
+    public void setEnqueueRate(double enqueueRate) {
+        this.enqueueRate = enqueueRate;
+    }
+
+    /**
+     * @return the rate, in FlowFiles per second, at which FlowFiles were recently removed from this queue
+     */
+    public double getDequeueRate() {
+        return dequeueRate;
+    }
+
+    public void setDequeueRate(double dequeueRate) {
+        this.dequeueRate = dequeueRate;
+    }
+
     public FlowFileAvailability getFlowFileAvailability() {
         return flowFileAvailability;
     }
@@ -259,6 +295,9 @@ public class ConnectionStatus implements Cloneable {
         clonedObj.maxQueuedCount = maxQueuedCount;
         clonedObj.totalQueuedDuration = totalQueuedDuration;
         clonedObj.maxQueuedDuration = maxQueuedDuration;
+        clonedObj.queuedDurationHistogram = queuedDurationHistogram == null ? null : queuedDurationHistogram.clone();
+        clonedObj.enqueueRate = enqueueRate;
+        clonedObj.dequeueRate = dequeueRate;
         return clonedObj;
     }
 
@@ -305,6 +344,12 @@ public class ConnectionStatus implements Cloneable {
         builder.append(totalQueuedDuration);
         builder.append(", maxActiveQueuedDuration=");
         builder.append(maxQueuedDuration);
+        builder.append(", queuedDurationHistogram=");
+        builder.append(queuedDurationHistogram);
+        builder.append(", enqueueRate=");
+        builder.append(enqueueRate);
+        builder.append(", dequeueRate=");
+        builder.append(dequeueRate);
         builder.append(", loadBalanceStatus=");
         builder.append(loadBalanceStatus);
         builder.append("]");
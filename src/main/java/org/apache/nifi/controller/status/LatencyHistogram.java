@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status;
+
+import java.util.Arrays;
+
+/**
+ * A mergeable histogram of durations that uses a fixed amount of memory regardless of the number of values recorded.
+ * Durations are recorded in the unit chosen by the producer of the status, which is documented by each accessor that
+ * exposes a histogram: nanoseconds for processing durations and milliseconds for queued durations.
+ *
+ * <p>
+ * In the manner of an HDR histogram, values are counted in buckets whose width grows with the magnitude of the value:
+ * each power of two is divided into {@value #SUB_BUCKET_COUNT} linear sub-buckets, so that any value reported by
+ * {@link #getValueAtPercentile(double)} is within 1/{@value #SUB_BUCKET_COUNT} of the recorded value. Values up to
+ * 2<sup>{@value #MAX_EXPONENT}</sup> units (a little over an hour in nanoseconds) are tracked with that precision; larger
+ * values are counted in the highest bucket, while the exact minimum, maximum and sum are always retained.
+ * </p>
+ *
+ * <p>
+ * The bucket array is allocated when the first value is recorded, so an empty histogram is inexpensive. Instances are not
+ * thread-safe; like the other status objects, a histogram is expected to be populated by a single thread before it is published.
+ * </p>
+ */
+public class LatencyHistogram implements Cloneable {
+
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int MAX_EXPONENT = 42;
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private long[] counts;
+    private long totalCount;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = 0L;
+
+    /**
+     * Records a single duration
+     *
+     * @param duration the duration; negative values are recorded as zero
+     */
+    public void recordValue(final long duration) {
+        recordValue(duration, 1L);
+    }
+
+    /**
+     * Records the same duration a given number of times
+     *
+     * @param duration the duration; negative values are recorded as zero
+     * @param count the number of times that the duration occurred
+     */
+    public void recordValue(final long duration, final long count) {
+        if (count <= 0) {
+            return;
+        }
+
+        final long value = Math.max(0L, duration);
+        if (counts == null) {
+            counts = new long[BUCKET_COUNT];
+        }
+
+        counts[bucketIndex(value)] += count;
+        totalCount += count;
+        sum += value * count;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds all values recorded by the given histogram to this histogram
+     *
+     * @param other the histogram to merge into this one; may be <code>null</code>
+     */
+    public void merge(final LatencyHistogram other) {
+        if (other == null || other.totalCount == 0) {
+            return;
+        }
+
+        if (counts == null) {
+            counts = new long[BUCKET_COUNT];
+        }
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+
+        totalCount += other.totalCount;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * @return the number of values recorded
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * @return the sum of all values recorded
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * @return the smallest value recorded, or 0 if no values have been recorded
+     */
+    public long getMin() {
+        return totalCount == 0 ? 0L : min;
+    }
+
+    /**
+     * @return the largest value recorded, or 0 if no values have been recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return the mean of all values recorded, or 0 if no values have been recorded
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0D : (double) sum / totalCount;
+    }
+
+    /**
+     * Returns the value below which the given percentage of recorded values fall. The value returned is the upper bound
+     * of the bucket that contains the percentile, limited to the largest value recorded.
+     *
+     * @param percentile the percentile, between 0 and 100 inclusive
+     * @return the value at the given percentile, or 0 if no values have been recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0D || percentile > 100D) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100 but was " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0L;
+        }
+
+        final long targetCount = Math.max(1L, (long) Math.ceil(percentile / 100D * totalCount));
+        long cumulativeCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= targetCount) {
+                return Math.max(min, Math.min(max, bucketUpperBound(i)));
+            }
+        }
+
+        return max;
+    }
+
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketUpperBound(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        final int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        final int subBucket = index % SUB_BUCKET_COUNT;
+        final int shift = exponent - SUB_BUCKET_BITS;
+        return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+
+    @Override
+    public LatencyHistogram clone() {
+        final LatencyHistogram clonedObj = new LatencyHistogram();
+        clonedObj.counts = counts == null ? null : Arrays.copyOf(counts, counts.length);
+        clonedObj.totalCount = totalCount;
+        clonedObj.sum = sum;
+        clonedObj.min = min;
+        clonedObj.max = max;
+        return clonedObj;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram [count=" + totalCount + ", min=" + getMin() + ", mean=" + getMean() + ", p50=" + getValueAtPercentile(50D)
+                + ", p99=" + getValueAtPercentile(99D) + ", max=" + max + "]";
+    }
+}
@@ -36,12 +36,22 @@ public class NodeStatus implements Cloneable {
 
     private long totalThreads;
     private long timerDrivenThreads;
+    private long virtualThreads;
+    private long mountedVirtualThreads;
+
+    private long heapAllocationRate;
+    private long garbageCollectionCount;
+    private long garbageCollectionPauseTimeInMs;
+    private long maxGarbageCollectionPauseInMs;
+    private long safepointCount;
+    private long safepointTimeInMs;
 
     private long flowFileRepositoryFreeSpace;
     private long flowFileRepositoryUsedSpace;
 
     private List<StorageStatus> contentRepositories = new ArrayList<>();
     private List<StorageStatus> provenanceRepositories = new ArrayList<>();
+    private List<StorageStatus> bufferPools = new ArrayList<>();
 
     public long getCreatedAtInMs() {
         return createdAtInMs;
@@ -123,6 +133,94 @@ public class NodeStatus implements Cloneable {
         this.timerDrivenThreads = timerDrivenThreads;
     }
 
+    /**
+     * @return the number of live virtual threads
+     */
+    public long getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(final long virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * @return the number of virtual threads currently mounted on a carrier thread
+     */
+    public long getMountedVirtualThreads() {
+        return mountedVirtualThreads;
+    }
+
+    public void setMountedVirtualThreads(final long mountedVirtualThreads) {
+        this.mountedVirtualThreads = mountedVirtualThreads;
+    }
+
+    /**
+     * @return the rate, in bytes per second, at which heap memory was recently allocated
+     */
+    public long getHeapAllocationRate() {
+        return heapAllocationRate;
+    }
+
+    public void setHeapAllocationRate(final long heapAllocationRate) {
+        this.heapAllocationRate = heapAllocationRate;
+    }
+
+    /**
+     * @return the total number of garbage collections since the JVM started
+     */
+    public long getGarbageCollectionCount() {
+        return garbageCollectionCount;
+    }
+
+    public void setGarbageCollectionCount(final long garbageCollectionCount) {
+        this.garbageCollectionCount = garbageCollectionCount;
+    }
+
+    /**
+     * @return the total time, in milliseconds, spent in garbage collection pauses since the JVM started
+     */
+    public long getGarbageCollectionPauseTimeInMs() {
+        return garbageCollectionPauseTimeInMs;
+    }
+
+    public void setGarbageCollectionPauseTimeInMs(final long garbageCollectionPauseTimeInMs) {
+        this.garbageCollectionPauseTimeInMs = garbageCollectionPauseTimeInMs;
+    }
+
+    /**
+     * @return the longest garbage collection pause, in milliseconds, since the previous status was captured
+     */
+    public long getMaxGarbageCollectionPauseInMs() {
+        return maxGarbageCollectionPauseInMs;
+    }
+
+    public void setMaxGarbageCollectionPauseInMs(final long maxGarbageCollectionPauseInMs) {
+        this.maxGarbageCollectionPauseInMs = maxGarbageCollectionPauseInMs;
+    }
+
+    /**
+     * @return the total number of safepoints since the JVM started
+     */
+    public long getSafepointCount() {
+        return safepointCount;
+    }
+
+    public void setSafepointCount(final long safepointCount) {
+        this.safepointCount = safepointCount;
+    }
+
+    /**
+     * @return the total time, in milliseconds, that application threads were stopped at safepoints since the JVM started
+     */
+    public long getSafepointTimeInMs() {
+        return safepointTimeInMs;
+    }
+
+    public void setSafepointTimeInMs(final long safepointTimeInMs) {
+        this.safepointTimeInMs = safepointTimeInMs;
+    }
+
     public long getFlowFileRepositoryFreeSpace() {
         return flowFileRepositoryFreeSpace;
     }
@@ -157,6 +255,20 @@ public class NodeStatus implements Cloneable {
         this.provenanceRepositories.addAll(provenanceRepositories);
     }
 
+    /**
+     * @return the status of the JVM buffer pools, such as the <code>direct</code> and <code>mapped</code> pools. The used space
+     * of each pool is the memory used by its buffers and the object count is the number of buffers in the pool. Buffer pools
+     * have no notion of free space, so the free space of each pool is not populated.
+     */
+    public List<StorageStatus> getBufferPools() {
+        return bufferPools;
+    }
+
+    public void setBufferPools(final List<StorageStatus> bufferPools) {
+        this.bufferPools = new ArrayList<>();
+        this.bufferPools.addAll(bufferPools);
+    }
+
     @Override
     protected NodeStatus clone() {
         final NodeStatus clonedObj = new NodeStatus();
@@ -170,6 +282,14 @@ public class NodeStatus implements Cloneable {
         clonedObj.processorLoadAverage = processorLoadAverage;
         clonedObj.totalThreads = totalThreads;
         clonedObj.timerDrivenThreads = timerDrivenThreads;
+        clonedObj.virtualThreads = virtualThreads;
+        clonedObj.mountedVirtualThreads = mountedVirtualThreads;
+        clonedObj.heapAllocationRate = heapAllocationRate;
+        clonedObj.garbageCollectionCount = garbageCollectionCount;
+        clonedObj.garbageCollectionPauseTimeInMs = garbageCollectionPauseTimeInMs;
+        clonedObj.maxGarbageCollectionPauseInMs = maxGarbageCollectionPauseInMs;
+        clonedObj.safepointCount = safepointCount;
+        clonedObj.safepointTimeInMs = safepointTimeInMs;
         clonedObj.flowFileRepositoryFreeSpace = flowFileRepositoryFreeSpace;
         clonedObj.flowFileRepositoryUsedSpace = flowFileRepositoryUsedSpace;
 
@@ -181,6 +301,10 @@ public class NodeStatus implements Cloneable {
         provenanceRepositories.stream().map(r -> r.clone()).forEach(r -> clonedProvenanceRepositories.add(r));
         clonedObj.provenanceRepositories = clonedProvenanceRepositories;
 
+        final List<StorageStatus> clonedBufferPools = new ArrayList<>();
+        bufferPools.stream().map(r -> r.clone()).forEach(r -> clonedBufferPools.add(r));
+        clonedObj.bufferPools = clonedBufferPools;
+
         return clonedObj;
     }
 
@@ -197,10 +321,19 @@ public class NodeStatus implements Cloneable {
         sb.append(", processorLoadAverage=").append(processorLoadAverage);
         sb.append(", totalThreads=").append(totalThreads);
         sb.append(", timerDrivenThreads=").append(timerDrivenThreads);
+        sb.append(", virtualThreads=").append(virtualThreads);
+        sb.append(", mountedVirtualThreads=").append(mountedVirtualThreads);
+        sb.append(", heapAllocationRate=").append(heapAllocationRate);
+        sb.append(", garbageCollectionCount=").append(garbageCollectionCount);
+        sb.append(", garbageCollectionPauseTimeInMs=").append(garbageCollectionPauseTimeInMs);
+        sb.append(", maxGarbageCollectionPauseInMs=").append(maxGarbageCollectionPauseInMs);
+        sb.append(", safepointCount=").append(safepointCount);
+        sb.append(", safepointTimeInMs=").append(safepointTimeInMs);
         sb.append(", flowFileRepositoryFreeSpace=").append(flowFileRepositoryFreeSpace);
         sb.append(", flowFileRepositoryUsedSpace=").append(flowFileRepositoryUsedSpace);
         sb.append(", contentRepositories=").append(contentRepositories);
         sb.append(", provenanceRepositories=").append(provenanceRepositories);
+        sb.append(", bufferPools=").append(bufferPools);
         sb.append('}');
         return sb.toString();
     }
@@ -299,11 +299,14 @@ public class ProcessGroupStatus implements Cloneable {
 
         clonedObj.id = id;
         clonedObj.name = name;
+        clonedObj.versionedFlowState = versionedFlowState;
+        clonedObj.registeredFlowSnapshotMetadata = registeredFlowSnapshotMetadata;
         clonedObj.outputContentSize = outputContentSize;
         clonedObj.outputCount = outputCount;
         clonedObj.inputContentSize = inputContentSize;
         clonedObj.inputCount = inputCount;
         clonedObj.activeThreadCount = activeThreadCount;
+        clonedObj.statelessActiveThreadCount = statelessActiveThreadCount;
         clonedObj.terminatedThreadCount = terminatedThreadCount;
         clonedObj.queuedContentSize = queuedContentSize;
         clonedObj.queuedCount = queuedCount;
@@ -316,7 +319,7 @@ public class ProcessGroupStatus implements Cloneable {
         clonedObj.flowFilesTransferred = flowFilesTransferred;
         clonedObj.bytesTransferred = bytesTransferred;
         clonedObj.processingNanos = processingNanos;
-        clonedObj.processingPerformanceStatus = processingPerformanceStatus;
+        clonedObj.processingPerformanceStatus = processingPerformanceStatus == null ? null : processingPerformanceStatus.clone();
 
         if (connectionStatus != null) {
             final Collection<ConnectionStatus> statusList = new ArrayList<>();
@@ -451,30 +454,7 @@ public class ProcessGroupStatus implements Cloneable {
             return;
         }
 
-        target.setInputCount(target.getInputCount() + toMerge.getInputCount());
-        target.setInputContentSize(target.getInputContentSize() + toMerge.getInputContentSize());
-        target.setOutputCount(target.getOutputCount() + toMerge.getOutputCount());
-        target.setOutputContentSize(target.getOutputContentSize() + toMerge.getOutputContentSize());
-        target.setQueuedCount(target.getQueuedCount() + toMerge.getQueuedCount());
-        target.setQueuedContentSize(target.getQueuedContentSize() + toMerge.getQueuedContentSize());
-        target.setBytesRead(target.getBytesRead() + toMerge.getBytesRead());
-        target.setBytesWritten(target.getBytesWritten() + toMerge.getBytesWritten());
-        target.setActiveThreadCount(target.getActiveThreadCount() + toMerge.getActiveThreadCount());
-        target.setStatelessActiveThreadCount(target.getStatelessActiveThreadCount() + toMerge.getStatelessActiveThreadCount());
-        target.setTerminatedThreadCount(target.getTerminatedThreadCount() + toMerge.getTerminatedThreadCount());
-        target.setFlowFilesTransferred(target.getFlowFilesTransferred() + toMerge.getFlowFilesTransferred());
-        target.setBytesTransferred(target.getBytesTransferred() + toMerge.getBytesTransferred());
-        target.setFlowFilesReceived(target.getFlowFilesReceived() + toMerge.getFlowFilesReceived());
-        target.setBytesReceived(target.getBytesReceived() + toMerge.getBytesReceived());
-        target.setFlowFilesSent(target.getFlowFilesSent() + toMerge.getFlowFilesSent());
-        target.setBytesSent(target.getBytesSent() + toMerge.getBytesSent());
-        target.setProcessingNanos(target.getProcessingNanos() + toMerge.getProcessingNanos());
-
-        // if the versioned flow state to merge is sync failure allow it to take precedence.
-        if (VersionedFlowState.SYNC_FAILURE.equals(toMerge.getVersionedFlowState())) {
-            target.setVersionedFlowState(VersionedFlowState.SYNC_FAILURE);
-        }
-        target.setRegisteredFlowSnapshotMetadata(toMerge.getRegisteredFlowSnapshotMetadata());
+        mergeGroupCounts(target, toMerge);
 
         // connection status
         // sort by id
@@ -490,14 +470,7 @@ public class ProcessGroupStatus implements Cloneable {
                 continue;
             }
 
-            merged.setQueuedCount(merged.getQueuedCount() + statusToMerge.getQueuedCount());
-            merged.setQueuedBytes(merged.getQueuedBytes() + statusToMerge.getQueuedBytes());
-            merged.setInputCount(merged.getInputCount() + statusToMerge.getInputCount());
-            merged.setInputBytes(merged.getInputBytes() + statusToMerge.getInputBytes());
-            merged.setOutputCount(merged.getOutputCount() + statusToMerge.getOutputCount());
-            merged.setOutputBytes(merged.getOutputBytes() + statusToMerge.getOutputBytes());
-            merged.setFlowFileAvailability(mergeFlowFileAvailability(merged.getFlowFileAvailability(), statusToMerge.getFlowFileAvailability()));
-            merged.setLoadBalanceStatus(mergeLoadBalanceStatus(merged.getLoadBalanceStatus(), statusToMerge.getLoadBalanceStatus()));
+            mergeConnectionStatus(merged, statusToMerge);
         }
         target.setConnectionStatus(mergedConnectionMap.values());
 
@@ -514,28 +487,7 @@ public class ProcessGroupStatus implements Cloneable {
                 continue;
             }
 
-            merged.setActiveThreadCount(merged.getActiveThreadCount() + statusToMerge.getActiveThreadCount());
-            merged.setTerminatedThreadCount(merged.getTerminatedThreadCount() + statusToMerge.getTerminatedThreadCount());
-            merged.setBytesRead(merged.getBytesRead() + statusToMerge.getBytesRead());
-            merged.setBytesWritten(merged.getBytesWritten() + statusToMerge.getBytesWritten());
-            merged.setInputBytes(merged.getInputBytes() + statusToMerge.getInputBytes());
-            merged.setInputCount(merged.getInputCount() + statusToMerge.getInputCount());
-            merged.setInvocations(merged.getInvocations() + statusToMerge.getInvocations());
-            merged.setOutputBytes(merged.getOutputBytes() + statusToMerge.getOutputBytes());
-            merged.setOutputCount(merged.getOutputCount() + statusToMerge.getOutputCount());
-            merged.setProcessingNanos(merged.getProcessingNanos() + statusToMerge.getProcessingNanos());
-            merged.setFlowFilesRemoved(merged.getFlowFilesRemoved() + statusToMerge.getFlowFilesRemoved());
-
-            // if the status to merge is invalid allow it to take precedence. whether the
-            // processor run status is disabled/stopped/running is part of the flow configuration
-            // and should not differ amongst nodes. however, whether a processor is invalid
-            // can be driven by environmental conditions. this check allows any of those to
-            // take precedence over the configured run status.
-            if (RunStatus.Validating.equals(statusToMerge.getRunStatus())) {
-                merged.setRunStatus(RunStatus.Validating);
-            } else if (RunStatus.Invalid.equals(statusToMerge.getRunStatus())) {
-                merged.setRunStatus(RunStatus.Invalid);
-            }
+            mergeProcessorStatus(merged, statusToMerge);
         }
         target.setProcessorStatus(mergedProcessorMap.values());
 
@@ -552,20 +504,7 @@ public class ProcessGroupStatus implements Cloneable {
                 continue;
             }
 
-            merged.setInputBytes(merged.getInputBytes() + statusToMerge.getInputBytes());
-            merged.setInputCount(merged.getInputCount() + statusToMerge.getInputCount());
-            merged.setOutputBytes(merged.getOutputBytes() + statusToMerge.getOutputBytes());
-            merged.setOutputCount(merged.getOutputCount() + statusToMerge.getOutputCount());
-            merged.setActiveThreadCount(merged.getActiveThreadCount() + statusToMerge.getActiveThreadCount());
-            if (statusToMerge.isTransmitting() != null && statusToMerge.isTransmitting()) {
-                merged.setTransmitting(true);
-            }
-
-            // should be unnecessary here since ports run status should not be affected by
-            // environmental conditions but doing so in case that changes
-            if (RunStatus.Invalid.equals(statusToMerge.getRunStatus())) {
-                merged.setRunStatus(RunStatus.Invalid);
-            }
+            mergePortStatus(merged, statusToMerge);
         }
         target.setInputPortStatus(mergedInputPortMap.values());
 
@@ -582,20 +521,7 @@ public class ProcessGroupStatus implements Cloneable {
                 continue;
             }
 
-            merged.setInputBytes(merged.getInputBytes() + statusToMerge.getInputBytes());
-            merged.setInputCount(merged.getInputCount() + statusToMerge.getInputCount());
-            merged.setOutputBytes(merged.getOutputBytes() + statusToMerge.getOutputBytes());
-            merged.setOutputCount(merged.getOutputCount() + statusToMerge.getOutputCount());
-            merged.setActiveThreadCount(merged.getActiveThreadCount() + statusToMerge.getActiveThreadCount());
-            if (statusToMerge.isTransmitting() != null && statusToMerge.isTransmitting()) {
-                merged.setTransmitting(true);
-            }
-
-            // should be unnecessary here since ports run status not should be affected by
-            // environmental conditions but doing so in case that changes
-            if (RunStatus.Invalid.equals(statusToMerge.getRunStatus())) {
-                merged.setRunStatus(RunStatus.Invalid);
-            }
+            mergePortStatus(merged, statusToMerge);
         }
         target.setOutputPortStatus(mergedOutputPortMap.values());
 
@@ -614,7 +540,7 @@ public class ProcessGroupStatus implements Cloneable {
 
             merge(merged, statusToMerge);
         }
-        target.setOutputPortStatus(mergedOutputPortMap.values());
+        target.setProcessGroupStatus(mergedGroupMap.values());
 
         // remote groups
         final Map<String, RemoteProcessGroupStatus> mergedRemoteGroupMap = new HashMap<>();
@@ -629,38 +555,186 @@ public class ProcessGroupStatus implements Cloneable {
                 continue;
             }
 
-            // NOTE - active/inactive port counts are not merged since that state is considered part of the flow (like runStatus)
-            merged.setReceivedContentSize(merged.getReceivedContentSize() + statusToMerge.getReceivedContentSize());
-            merged.setReceivedCount(merged.getReceivedCount() + statusToMerge.getReceivedCount());
-            merged.setSentContentSize(merged.getSentContentSize() + statusToMerge.getSentContentSize());
-            merged.setSentCount(merged.getSentCount() + statusToMerge.getSentCount());
-            merged.setActiveThreadCount(merged.getActiveThreadCount() + statusToMerge.getActiveThreadCount());
-
-            // Take the earliest last refresh time
-            final Date mergedLastRefreshTime = merged.getLastRefreshTime();
-            final Date toMergeLastRefreshTime = statusToMerge.getLastRefreshTime();
-            if (mergedLastRefreshTime == null || (toMergeLastRefreshTime != null && toMergeLastRefreshTime.before(mergedLastRefreshTime))) {
-                merged.setLastRefreshTime(toMergeLastRefreshTime);
-            }
+            mergeRemoteProcessGroupStatus(merged, statusToMerge);
         }
 
         target.setRemoteProcessGroupStatus(mergedRemoteGroupMap.values());
 
+        mergeProcessingPerformanceStatus(target, toMerge);
+    }
+
+    /**
+     * Merges the group-level counters and flow state of the given group into the target, without merging any components
+     */
+    static void mergeGroupCounts(final ProcessGroupStatus target, final ProcessGroupStatus toMerge) {
+        target.setInputCount(target.getInputCount() + toMerge.getInputCount());
+        target.setInputContentSize(target.getInputContentSize() + toMerge.getInputContentSize());
+        target.setOutputCount(target.getOutputCount() + toMerge.getOutputCount());
+        target.setOutputContentSize(target.getOutputContentSize() + toMerge.getOutputContentSize());
+        target.setQueuedCount(target.getQueuedCount() + toMerge.getQueuedCount());
+        target.setQueuedContentSize(target.getQueuedContentSize() + toMerge.getQueuedContentSize());
+        target.setBytesRead(target.getBytesRead() + toMerge.getBytesRead());
+        target.setBytesWritten(target.getBytesWritten() + toMerge.getBytesWritten());
+        target.setActiveThreadCount(target.getActiveThreadCount() + toMerge.getActiveThreadCount());
+        target.setStatelessActiveThreadCount(target.getStatelessActiveThreadCount() + toMerge.getStatelessActiveThreadCount());
+        target.setTerminatedThreadCount(target.getTerminatedThreadCount() + toMerge.getTerminatedThreadCount());
+        target.setFlowFilesTransferred(target.getFlowFilesTransferred() + toMerge.getFlowFilesTransferred());
+        target.setBytesTransferred(target.getBytesTransferred() + toMerge.getBytesTransferred());
+        target.setFlowFilesReceived(target.getFlowFilesReceived() + toMerge.getFlowFilesReceived());
+        target.setBytesReceived(target.getBytesReceived() + toMerge.getBytesReceived());
+        target.setFlowFilesSent(target.getFlowFilesSent() + toMerge.getFlowFilesSent());
+        target.setBytesSent(target.getBytesSent() + toMerge.getBytesSent());
+        target.setProcessingNanos(target.getProcessingNanos() + toMerge.getProcessingNanos());
+
+        // if the versioned flow state to merge is sync failure allow it to take precedence.
+        if (VersionedFlowState.SYNC_FAILURE.equals(toMerge.getVersionedFlowState())) {
+            target.setVersionedFlowState(VersionedFlowState.SYNC_FAILURE);
+        }
+        target.setRegisteredFlowSnapshotMetadata(toMerge.getRegisteredFlowSnapshotMetadata());
+    }
+
+    /**
+     * Copies the identity, flow state and group-level counters of the source into the target, without copying any components
+     */
+    static void copyGroupFields(final ProcessGroupStatus source, final ProcessGroupStatus target) {
+        target.setId(source.getId());
+        target.setName(source.getName());
+        target.setVersionedFlowState(source.getVersionedFlowState());
+        target.setRegisteredFlowSnapshotMetadata(source.getRegisteredFlowSnapshotMetadata());
+        target.setInputCount(source.getInputCount());
+        target.setInputContentSize(source.getInputContentSize());
+        target.setOutputCount(source.getOutputCount());
+        target.setOutputContentSize(source.getOutputContentSize());
+        target.setQueuedCount(source.getQueuedCount());
+        target.setQueuedContentSize(source.getQueuedContentSize());
+        target.setBytesRead(source.getBytesRead());
+        target.setBytesWritten(source.getBytesWritten());
+        target.setActiveThreadCount(source.getActiveThreadCount());
+        target.setStatelessActiveThreadCount(source.getStatelessActiveThreadCount());
+        target.setTerminatedThreadCount(source.getTerminatedThreadCount());
+        target.setFlowFilesTransferred(source.getFlowFilesTransferred());
+        target.setBytesTransferred(source.getBytesTransferred());
+        target.setFlowFilesReceived(source.getFlowFilesReceived());
+        target.setBytesReceived(source.getBytesReceived());
+        target.setFlowFilesSent(source.getFlowFilesSent());
+        target.setBytesSent(source.getBytesSent());
+        target.setProcessingNanos(source.getProcessingNanos());
+
+        final ProcessingPerformanceStatus performanceStatus = source.getProcessingPerformanceStatus();
+        target.setProcessingPerformanceStatus(performanceStatus == null ? null : performanceStatus.clone());
+    }
+
+    static void mergeConnectionStatus(final ConnectionStatus merged, final ConnectionStatus statusToMerge) {
+        merged.setQueuedCount(merged.getQueuedCount() + statusToMerge.getQueuedCount());
+        merged.setQueuedBytes(merged.getQueuedBytes() + statusToMerge.getQueuedBytes());
+        merged.setInputCount(merged.getInputCount() + statusToMerge.getInputCount());
+        merged.setInputBytes(merged.getInputBytes() + statusToMerge.getInputBytes());
+        merged.setOutputCount(merged.getOutputCount() + statusToMerge.getOutputCount());
+        merged.setOutputBytes(merged.getOutputBytes() + statusToMerge.getOutputBytes());
+        merged.setFlowFileAvailability(mergeFlowFileAvailability(merged.getFlowFileAvailability(), statusToMerge.getFlowFileAvailability()));
+        merged.setLoadBalanceStatus(mergeLoadBalanceStatus(merged.getLoadBalanceStatus(), statusToMerge.getLoadBalanceStatus()));
+        merged.setQueuedDurationHistogram(mergeHistograms(merged.getQueuedDurationHistogram(), statusToMerge.getQueuedDurationHistogram()));
+        merged.setEnqueueRate(merged.getEnqueueRate() + statusToMerge.getEnqueueRate());
+        merged.setDequeueRate(merged.getDequeueRate() + statusToMerge.getDequeueRate());
+    }
+
+    static void mergeProcessorStatus(final ProcessorStatus merged, final ProcessorStatus statusToMerge) {
+        merged.setActiveThreadCount(merged.getActiveThreadCount() + statusToMerge.getActiveThreadCount());
+        merged.setTerminatedThreadCount(merged.getTerminatedThreadCount() + statusToMerge.getTerminatedThreadCount());
+        merged.setBytesRead(merged.getBytesRead() + statusToMerge.getBytesRead());
+        merged.setBytesWritten(merged.getBytesWritten() + statusToMerge.getBytesWritten());
+        merged.setInputBytes(merged.getInputBytes() + statusToMerge.getInputBytes());
+        merged.setInputCount(merged.getInputCount() + statusToMerge.getInputCount());
+        merged.setInvocations(merged.getInvocations() + statusToMerge.getInvocations());
+        merged.setOutputBytes(merged.getOutputBytes() + statusToMerge.getOutputBytes());
+        merged.setOutputCount(merged.getOutputCount() + statusToMerge.getOutputCount());
+        merged.setProcessingNanos(merged.getProcessingNanos() + statusToMerge.getProcessingNanos());
+        merged.setFlowFilesRemoved(merged.getFlowFilesRemoved() + statusToMerge.getFlowFilesRemoved());
+
+        // if the status to merge is invalid allow it to take precedence. whether the
+        // processor run status is disabled/stopped/running is part of the flow configuration
+        // and should not differ amongst nodes. however, whether a processor is invalid
+        // can be driven by environmental conditions. this check allows any of those to
+        // take precedence over the configured run status.
+        if (RunStatus.Validating.equals(statusToMerge.getRunStatus())) {
+            merged.setRunStatus(RunStatus.Validating);
+        } else if (RunStatus.Invalid.equals(statusToMerge.getRunStatus())) {
+            merged.setRunStatus(RunStatus.Invalid);
+        }
+
+        final ProcessingPerformanceStatus mergedPerformanceStatus = merged.getProcessingPerformanceStatus();
+        final ProcessingPerformanceStatus toMergePerformanceStatus = statusToMerge.getProcessingPerformanceStatus();
+        if (mergedPerformanceStatus == null) {
+            merged.setProcessingPerformanceStatus(toMergePerformanceStatus == null ? null : toMergePerformanceStatus.clone());
+        } else if (toMergePerformanceStatus != null) {
+            mergeDurations(mergedPerformanceStatus, toMergePerformanceStatus);
+        }
+    }
+
+    static void mergePortStatus(final PortStatus merged, final PortStatus statusToMerge) {
+        merged.setInputBytes(merged.getInputBytes() + statusToMerge.getInputBytes());
+        merged.setInputCount(merged.getInputCount() + statusToMerge.getInputCount());
+        merged.setOutputBytes(merged.getOutputBytes() + statusToMerge.getOutputBytes());
+        merged.setOutputCount(merged.getOutputCount() + statusToMerge.getOutputCount());
+        merged.setActiveThreadCount(merged.getActiveThreadCount() + statusToMerge.getActiveThreadCount());
+        if (statusToMerge.isTransmitting() != null && statusToMerge.isTransmitting()) {
+            merged.setTransmitting(true);
+        }
+
+        // should be unnecessary here since ports run status should not be affected by
+        // environmental conditions but doing so in case that changes
+        if (RunStatus.Invalid.equals(statusToMerge.getRunStatus())) {
+            merged.setRunStatus(RunStatus.Invalid);
+        }
+    }
+
+    static void mergeRemoteProcessGroupStatus(final RemoteProcessGroupStatus merged, final RemoteProcessGroupStatus statusToMerge) {
+        // NOTE - active/inactive port counts are not merged since that state is considered part of the flow (like runStatus)
+        merged.setReceivedContentSize(merged.getReceivedContentSize() + statusToMerge.getReceivedContentSize());
+        merged.setReceivedCount(merged.getReceivedCount() + statusToMerge.getReceivedCount());
+        merged.setSentContentSize(merged.getSentContentSize() + statusToMerge.getSentContentSize());
+        merged.setSentCount(merged.getSentCount() + statusToMerge.getSentCount());
+        merged.setActiveThreadCount(merged.getActiveThreadCount() + statusToMerge.getActiveThreadCount());
+
+        // Take the earliest last refresh time
+        final Date mergedLastRefreshTime = merged.getLastRefreshTime();
+        final Date toMergeLastRefreshTime = statusToMerge.getLastRefreshTime();
+        if (mergedLastRefreshTime == null || (toMergeLastRefreshTime != null && toMergeLastRefreshTime.before(mergedLastRefreshTime))) {
+            merged.setLastRefreshTime(toMergeLastRefreshTime);
+        }
+    }
+
+    static void mergeProcessingPerformanceStatus(final ProcessGroupStatus target, final ProcessGroupStatus toMerge) {
         final ProcessingPerformanceStatus targetPerformanceStatus = target.getProcessingPerformanceStatus();
         final ProcessingPerformanceStatus toMergePerformanceStatus = toMerge.getProcessingPerformanceStatus();
 
         if (targetPerformanceStatus != null && toMergePerformanceStatus != null) {
             targetPerformanceStatus.setIdentifier(toMergePerformanceStatus.getIdentifier());
-            targetPerformanceStatus.setCpuDuration(targetPerformanceStatus.getCpuDuration() + toMergePerformanceStatus.getCpuDuration());
-            targetPerformanceStatus.setContentReadDuration(targetPerformanceStatus.getContentReadDuration() + toMergePerformanceStatus.getContentReadDuration());
-            targetPerformanceStatus.setContentWriteDuration(targetPerformanceStatus.getContentWriteDuration() + toMergePerformanceStatus.getContentWriteDuration());
-            targetPerformanceStatus.setSessionCommitDuration(targetPerformanceStatus.getSessionCommitDuration() + toMergePerformanceStatus.getSessionCommitDuration());
-            targetPerformanceStatus.setGarbageCollectionDuration(targetPerformanceStatus.getGarbageCollectionDuration() + toMergePerformanceStatus.getGarbageCollectionDuration());
+            mergeDurations(targetPerformanceStatus, toMergePerformanceStatus);
         } else {
             target.setProcessingPerformanceStatus(targetPerformanceStatus);
         }
     }
 
+    static void mergeDurations(final ProcessingPerformanceStatus target, final ProcessingPerformanceStatus toMerge) {
+        target.setCpuDuration(target.getCpuDuration() + toMerge.getCpuDuration());
+        target.setContentReadDuration(target.getContentReadDuration() + toMerge.getContentReadDuration());
+        target.setContentWriteDuration(target.getContentWriteDuration() + toMerge.getContentWriteDuration());
+        target.setSessionCommitDuration(target.getSessionCommitDuration() + toMerge.getSessionCommitDuration());
+        target.setGarbageCollectionDuration(target.getGarbageCollectionDuration() + toMerge.getGarbageCollectionDuration());
+        target.setTaskDurationHistogram(mergeHistograms(target.getTaskDurationHistogram(), toMerge.getTaskDurationHistogram()));
+        target.setSessionCommitDurationHistogram(mergeHistograms(target.getSessionCommitDurationHistogram(), toMerge.getSessionCommitDurationHistogram()));
+    }
+
+    private static LatencyHistogram mergeHistograms(final LatencyHistogram target, final LatencyHistogram toMerge) {
+        if (target == null) {
+            return toMerge == null ? null : toMerge.clone();
+        }
+
+        target.merge(toMerge);
+        return target;
+    }
+
     public static FlowFileAvailability mergeFlowFileAvailability(final FlowFileAvailability availabilityA, final FlowFileAvailability availabilityB) {
         if (availabilityA == availabilityB) {
             return availabilityA;
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Merges the status snapshots reported by each node of a cluster into a single {@link ProcessGroupStatus}, applying the same
+ * rules as {@link ProcessGroupStatus#merge(ProcessGroupStatus, ProcessGroupStatus)}.
+ *
+ * <p>
+ * Rather than folding the snapshots into the target one at a time, the merger visits each Process Group once, merging the
+ * corresponding group from every node in a single pass, and merges child groups in parallel using a {@link ForkJoinPool}.
+ * The snapshots given are not modified, and the merger holds no state between merges, so a single instance may be shared
+ * by concurrent callers.
+ * </p>
+ */
+public class ProcessGroupStatusMerger {
+
+    private final ForkJoinPool forkJoinPool;
+
+    /**
+     * Creates a merger that uses the {@link ForkJoinPool#commonPool() common pool}
+     */
+    public ProcessGroupStatusMerger() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param forkJoinPool the pool in which child groups are merged
+     */
+    public ProcessGroupStatusMerger(final ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = Objects.requireNonNull(forkJoinPool, "Fork Join Pool is required");
+    }
+
+    /**
+     * Merges the given snapshots of the same Process Group, one per node, into a new status.
+     *
+     * @param nodeStatuses the status of the Process Group as reported by each node; <code>null</code> elements are ignored
+     * @return the merged status, or <code>null</code> if no status was given
+     */
+    public ProcessGroupStatus merge(final Collection<ProcessGroupStatus> nodeStatuses) {
+        final List<ProcessGroupStatus> statuses = new ArrayList<>(nodeStatuses.size());
+        for (final ProcessGroupStatus status : nodeStatuses) {
+            if (status != null) {
+                statuses.add(status);
+            }
+        }
+
+        if (statuses.isEmpty()) {
+            return null;
+        }
+
+        return forkJoinPool.invoke(new MergeTask(statuses));
+    }
+
+    private static <T> List<T> mergeComponents(final List<ProcessGroupStatus> statuses, final Function<ProcessGroupStatus, Collection<T>> componentsFunction,
+                                               final Function<T, String> idFunction, final UnaryOperator<T> cloneFunction, final BiConsumer<T, T> mergeFunction) {
+        final Map<String, T> index = new LinkedHashMap<>();
+        for (final ProcessGroupStatus status : statuses) {
+            for (final T component : componentsFunction.apply(status)) {
+                final T merged = index.get(idFunction.apply(component));
+                if (merged == null) {
+                    index.put(idFunction.apply(component), cloneFunction.apply(component));
+                } else {
+                    mergeFunction.accept(merged, component);
+                }
+            }
+        }
+
+        return new ArrayList<>(index.values());
+    }
+
+    private static final class MergeTask extends RecursiveTask<ProcessGroupStatus> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<ProcessGroupStatus> statuses;
+
+        private MergeTask(final List<ProcessGroupStatus> statuses) {
+            this.statuses = statuses;
+        }
+
+        @Override
+        protected ProcessGroupStatus compute() {
+            final ProcessGroupStatus first = statuses.get(0);
+
+            final ProcessGroupStatus target = new ProcessGroupStatus();
+            ProcessGroupStatus.copyGroupFields(first, target);
+            for (int i = 1; i < statuses.size(); i++) {
+                final ProcessGroupStatus toMerge = statuses.get(i);
+                ProcessGroupStatus.mergeGroupCounts(target, toMerge);
+                ProcessGroupStatus.mergeProcessingPerformanceStatus(target, toMerge);
+            }
+
+            target.setConnectionStatus(mergeComponents(statuses, ProcessGroupStatus::getConnectionStatus,
+                    ConnectionStatus::getId, ConnectionStatus::clone, ProcessGroupStatus::mergeConnectionStatus));
+            target.setProcessorStatus(mergeComponents(statuses, ProcessGroupStatus::getProcessorStatus,
+                    ProcessorStatus::getId, ProcessorStatus::clone, ProcessGroupStatus::mergeProcessorStatus));
+            target.setInputPortStatus(mergeComponents(statuses, ProcessGroupStatus::getInputPortStatus,
+                    PortStatus::getId, PortStatus::clone, ProcessGroupStatus::mergePortStatus));
+            target.setOutputPortStatus(mergeComponents(statuses, ProcessGroupStatus::getOutputPortStatus,
+                    PortStatus::getId, PortStatus::clone, ProcessGroupStatus::mergePortStatus));
+            target.setRemoteProcessGroupStatus(mergeComponents(statuses, ProcessGroupStatus::getRemoteProcessGroupStatus,
+                    RemoteProcessGroupStatus::getId, RemoteProcessGroupStatus::clone, ProcessGroupStatus::mergeRemoteProcessGroupStatus));
+
+            final Map<String, List<ProcessGroupStatus>> childGroups = new LinkedHashMap<>();
+            for (final ProcessGroupStatus status : statuses) {
+                for (final ProcessGroupStatus childStatus : status.getProcessGroupStatus()) {
+                    childGroups.computeIfAbsent(childStatus.getId(), id -> new ArrayList<>(statuses.size())).add(childStatus);
+                }
+            }
+
+            final List<MergeTask> childTasks = new ArrayList<>(childGroups.size());
+            for (final List<ProcessGroupStatus> childStatuses : childGroups.values()) {
+                childTasks.add(new MergeTask(childStatuses));
+            }
+
+            final List<ProcessGroupStatus> mergedChildren = new ArrayList<>(childTasks.size());
+            if (childTasks.size() == 1) {
+                mergedChildren.add(childTasks.get(0).compute());
+            } else if (!childTasks.isEmpty()) {
+                invokeAll(childTasks);
+                for (final MergeTask childTask : childTasks) {
+                    mergedChildren.add(childTask.join());
+                }
+            }
+            target.setProcessGroupStatus(mergedChildren);
+
+            return target;
+        }
+    }
+}
@@ -24,6 +24,8 @@ public class ProcessingPerformanceStatus implements Cloneable {
     private long contentWriteDuration;
     private long sessionCommitDuration;
     private long garbageCollectionDuration;
+    private LatencyHistogram taskDurationHistogram;
+    private LatencyHistogram sessionCommitDurationHistogram;
 
     public String getIdentifier() {
         return identifier;
@@ -73,6 +75,28 @@ public class ProcessingPerformanceStatus implements Cloneable {
         this.garbageCollectionDuration = garbageCollectionDuration;
     }
 
+    /**
+     * @return the distribution of the durations of the tasks, in nanoseconds, or <code>null</code> if not tracked
+     */
+    public LatencyHistogram getTaskDurationHistogram() {
+        return taskDurationHistogram;
+    }
+
+    public void setTaskDurationHistogram(LatencyHistogram taskDurationHistogram) {
+        this.taskDurationHistogram = taskDurationHistogram;
+    }
+
+    /**
+     * @return the distribution of the durations of the session commits, in nanoseconds, or <code>null</code> if not tracked
+     */
+    public LatencyHistogram getSessionCommitDurationHistogram() {
+        return sessionCommitDurationHistogram;
+    }
+
+    public void setSessionCommitDurationHistogram(LatencyHistogram sessionCommitDurationHistogram) {
+        this.sessionCommitDurationHistogram = sessionCommitDurationHistogram;
+    }
+
     @Override
     public ProcessingPerformanceStatus clone() {
         final ProcessingPerformanceStatus clonedObj = new ProcessingPerformanceStatus();
@@ -83,6 +107,8 @@ public class ProcessingPerformanceStatus implements Cloneable {
         clonedObj.contentWriteDuration = contentWriteDuration;
         clonedObj.sessionCommitDuration = sessionCommitDuration;
         clonedObj.garbageCollectionDuration = garbageCollectionDuration;
+        clonedObj.taskDurationHistogram = taskDurationHistogram == null ? null : taskDurationHistogram.clone();
+        clonedObj.sessionCommitDurationHistogram = sessionCommitDurationHistogram == null ? null : sessionCommitDurationHistogram.clone();
         return clonedObj;
     }
 
@@ -101,6 +127,10 @@ public class ProcessingPerformanceStatus implements Cloneable {
         builder.append(sessionCommitDuration);
         builder.append(", garbageCollectionDuration= ");
         builder.append(garbageCollectionDuration);
+        builder.append(", taskDurationHistogram= ");
+        builder.append(taskDurationHistogram);
+        builder.append(", sessionCommitDurationHistogram= ");
+        builder.append(sessionCommitDurationHistogram);
         builder.append("]");
         return builder.toString();
     }
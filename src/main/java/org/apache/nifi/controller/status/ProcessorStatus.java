@@ -249,6 +249,20 @@ public class ProcessorStatus implements Cloneable {
         this.processingPerformanceStatus = processingPerformanceStatus;
     }
 
+    /**
+     * @return the distribution of the durations of this Processor's tasks, in nanoseconds, or <code>null</code> if not tracked
+     */
+    public LatencyHistogram getTaskDurationHistogram() {
+        return processingPerformanceStatus == null ? null : processingPerformanceStatus.getTaskDurationHistogram();
+    }
+
+    /**
+     * @return the distribution of the durations of this Processor's session commits, in nanoseconds, or <code>null</code> if not tracked
+     */
+    public LatencyHistogram getSessionCommitDurationHistogram() {
+        return processingPerformanceStatus == null ? null : processingPerformanceStatus.getSessionCommitDurationHistogram();
+    }
+
     @Override
     public ProcessorStatus clone() {
         final ProcessorStatus clonedObj = new ProcessorStatus();
@@ -275,7 +289,7 @@ public class ProcessorStatus implements Cloneable {
         clonedObj.executionNode = executionNode;
         clonedObj.type = type;
         clonedObj.counters = counters == null ? null : new HashMap<>(counters);
-        clonedObj.processingPerformanceStatus = processingPerformanceStatus;
+        clonedObj.processingPerformanceStatus = processingPerformanceStatus == null ? null : processingPerformanceStatus.clone();
         return clonedObj;
     }
 
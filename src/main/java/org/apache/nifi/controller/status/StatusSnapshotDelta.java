@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The changes to the status of a flow between two snapshots, identified by generation tokens. A delta either contains only
+ * the statuses of the Process Groups and components whose counters changed since the base generation, or, if the flow's
+ * structure changed or the base generation is unknown to the producer, a full snapshot of the flow.
+ *
+ * <p>
+ * A consumer obtains an initial delta using {@link #INITIAL_GENERATION}, which is always full, and then passes the
+ * {@link #getGeneration() generation} of each delta it receives in order to obtain the next one, applying each to its
+ * copy of the snapshot by way of {@link #applyTo(ProcessGroupStatus)}.
+ * </p>
+ *
+ * <p>
+ * The Process Group statuses contained in a partial delta carry only group-level counters; their component collections are ignored.
+ * </p>
+ */
+public final class StatusSnapshotDelta {
+
+    /**
+     * The generation to supply in order to obtain a full snapshot
+     */
+    public static final long INITIAL_GENERATION = -1L;
+
+    private final long baseGeneration;
+    private final long generation;
+    private final ProcessGroupStatus fullSnapshot;
+    private final Map<String, ProcessGroupStatus> processGroupStatus;
+    private final Map<String, ConnectionStatus> connectionStatus;
+    private final Map<String, ProcessorStatus> processorStatus;
+    private final Map<String, PortStatus> portStatus;
+    private final Map<String, RemoteProcessGroupStatus> remoteProcessGroupStatus;
+
+    private StatusSnapshotDelta(final Builder builder) {
+        this.baseGeneration = builder.baseGeneration;
+        this.generation = builder.generation;
+        this.fullSnapshot = null;
+        this.processGroupStatus = Collections.unmodifiableMap(new LinkedHashMap<>(builder.processGroupStatus));
+        this.connectionStatus = Collections.unmodifiableMap(new LinkedHashMap<>(builder.connectionStatus));
+        this.processorStatus = Collections.unmodifiableMap(new LinkedHashMap<>(builder.processorStatus));
+        this.portStatus = Collections.unmodifiableMap(new LinkedHashMap<>(builder.portStatus));
+        this.remoteProcessGroupStatus = Collections.unmodifiableMap(new LinkedHashMap<>(builder.remoteProcessGroupStatus));
+    }
+
+    private StatusSnapshotDelta(final ProcessGroupStatus fullSnapshot, final long generation) {
+        this.baseGeneration = INITIAL_GENERATION;
+        this.generation = generation;
+        this.fullSnapshot = fullSnapshot;
+        this.processGroupStatus = Collections.emptyMap();
+        this.connectionStatus = Collections.emptyMap();
+        this.processorStatus = Collections.emptyMap();
+        this.portStatus = Collections.emptyMap();
+        this.remoteProcessGroupStatus = Collections.emptyMap();
+    }
+
+    /**
+     * Creates a delta that replaces any previous snapshot with the given snapshot
+     *
+     * @param snapshot the full snapshot
+     * @param generation the generation of the snapshot
+     * @return the delta
+     */
+    public static StatusSnapshotDelta full(final ProcessGroupStatus snapshot, final long generation) {
+        return new StatusSnapshotDelta(Objects.requireNonNull(snapshot, "Snapshot is required"), generation);
+    }
+
+    /**
+     * @return the generation that this delta was computed against, or {@link #INITIAL_GENERATION} if the delta is full
+     */
+    public long getBaseGeneration() {
+        return baseGeneration;
+    }
+
+    /**
+     * @return the generation of the snapshot that results from applying this delta, to be supplied when requesting the next delta
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return <code>true</code> if this delta contains a full snapshot rather than changes to a previous snapshot
+     */
+    public boolean isFull() {
+        return fullSnapshot != null;
+    }
+
+    /**
+     * @return the full snapshot if this delta is full, <code>null</code> otherwise
+     */
+    public ProcessGroupStatus getFullSnapshot() {
+        return fullSnapshot;
+    }
+
+    /**
+     * @return the Process Groups whose group-level counters changed, keyed by identifier
+     */
+    public Map<String, ProcessGroupStatus> getProcessGroupStatus() {
+        return processGroupStatus;
+    }
+
+    /**
+     * @return the Connections whose status changed, keyed by identifier
+     */
+    public Map<String, ConnectionStatus> getConnectionStatus() {
+        return connectionStatus;
+    }
+
+    /**
+     * @return the Processors whose status changed, keyed by identifier
+     */
+    public Map<String, ProcessorStatus> getProcessorStatus() {
+        return processorStatus;
+    }
+
+    /**
+     * @return the Input and Output Ports whose status changed, keyed by identifier
+     */
+    public Map<String, PortStatus> getPortStatus() {
+        return portStatus;
+    }
+
+    /**
+     * @return the Remote Process Groups whose status changed, keyed by identifier
+     */
+    public Map<String, RemoteProcessGroupStatus> getRemoteProcessGroupStatus() {
+        return remoteProcessGroupStatus;
+    }
+
+    /**
+     * @return <code>true</code> if this delta is partial and contains no changes
+     */
+    public boolean isEmpty() {
+        return !isFull() && processGroupStatus.isEmpty() && connectionStatus.isEmpty() && processorStatus.isEmpty()
+                && portStatus.isEmpty() && remoteProcessGroupStatus.isEmpty();
+    }
+
+    /**
+     * Applies this delta to the snapshot of the base generation. A partial delta updates the given snapshot in place, replacing
+     * the statuses of the components that changed; a full delta leaves the given snapshot untouched and returns the full snapshot.
+     *
+     * @param previous the snapshot of the base generation; may be <code>null</code> only if this delta is full
+     * @return the snapshot of this delta's generation
+     */
+    public ProcessGroupStatus applyTo(final ProcessGroupStatus previous) {
+        if (isFull()) {
+            return fullSnapshot;
+        }
+
+        Objects.requireNonNull(previous, "Previous snapshot is required to apply a partial delta");
+        if (!isEmpty()) {
+            applyToGroup(previous);
+        }
+        return previous;
+    }
+
+    private void applyToGroup(final ProcessGroupStatus group) {
+        final ProcessGroupStatus changedGroup = processGroupStatus.get(group.getId());
+        if (changedGroup != null) {
+            ProcessGroupStatus.copyGroupFields(changedGroup, group);
+        }
+
+        if (!connectionStatus.isEmpty()) {
+            group.setConnectionStatus(replace(group.getConnectionStatus(), connectionStatus, ConnectionStatus::getId));
+        }
+        if (!processorStatus.isEmpty()) {
+            group.setProcessorStatus(replace(group.getProcessorStatus(), processorStatus, ProcessorStatus::getId));
+        }
+        if (!portStatus.isEmpty()) {
+            group.setInputPortStatus(replace(group.getInputPortStatus(), portStatus, PortStatus::getId));
+            group.setOutputPortStatus(replace(group.getOutputPortStatus(), portStatus, PortStatus::getId));
+        }
+        if (!remoteProcessGroupStatus.isEmpty()) {
+            group.setRemoteProcessGroupStatus(replace(group.getRemoteProcessGroupStatus(), remoteProcessGroupStatus, RemoteProcessGroupStatus::getId));
+        }
+
+        for (final ProcessGroupStatus childGroup : group.getProcessGroupStatus()) {
+            applyToGroup(childGroup);
+        }
+    }
+
+    private static <T> Collection<T> replace(final Collection<T> components, final Map<String, T> changes, final Function<T, String> idFunction) {
+        List<T> replaced = null;
+        int index = 0;
+        for (final T component : components) {
+            final T changed = changes.get(idFunction.apply(component));
+            if (changed != null) {
+                if (replaced == null) {
+                    replaced = new ArrayList<>(components);
+                }
+                replaced.set(index, changed);
+            }
+            index++;
+        }
+
+        return replaced == null ? components : replaced;
+    }
+
+    @Override
+    public String toString() {
+        if (isFull()) {
+            return "StatusSnapshotDelta[full, generation=" + generation + "]";
+        }
+
+        return "StatusSnapshotDelta[baseGeneration=" + baseGeneration + ", generation=" + generation + ", processGroups=" + processGroupStatus.size()
+                + ", connections=" + connectionStatus.size() + ", processors=" + processorStatus.size() + ", ports=" + portStatus.size()
+                + ", remoteProcessGroups=" + remoteProcessGroupStatus.size() + "]";
+    }
+
+    public static final class Builder {
+        private final long baseGeneration;
+        private final long generation;
+        private final Map<String, ProcessGroupStatus> processGroupStatus = new LinkedHashMap<>();
+        private final Map<String, ConnectionStatus> connectionStatus = new LinkedHashMap<>();
+        private final Map<String, ProcessorStatus> processorStatus = new LinkedHashMap<>();
+        private final Map<String, PortStatus> portStatus = new LinkedHashMap<>();
+        private final Map<String, RemoteProcessGroupStatus> remoteProcessGroupStatus = new LinkedHashMap<>();
+
+        /**
+         * @param baseGeneration the generation that the delta is computed against
+         * @param generation the generation of the snapshot that results from applying the delta
+         */
+        public Builder(final long baseGeneration, final long generation) {
+            this.baseGeneration = baseGeneration;
+            this.generation = generation;
+        }
+
+        public Builder processGroupStatus(final ProcessGroupStatus status) {
+            processGroupStatus.put(status.getId(), status);
+            return this;
+        }
+
+        public Builder connectionStatus(final ConnectionStatus status) {
+            connectionStatus.put(status.getId(), status);
+            return this;
+        }
+
+        public Builder processorStatus(final ProcessorStatus status) {
+            processorStatus.put(status.getId(), status);
+            return this;
+        }
+
+        public Builder portStatus(final PortStatus status) {
+            portStatus.put(status.getId(), status);
+            return this;
+        }
+
+        public Builder remoteProcessGroupStatus(final RemoteProcessGroupStatus status) {
+            remoteProcessGroupStatus.put(status.getId(), status);
+            return this;
+        }
+
+        public StatusSnapshotDelta build() {
+            return new StatusSnapshotDelta(this);
+        }
+    }
+}
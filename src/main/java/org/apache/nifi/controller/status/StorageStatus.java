@@ -23,6 +23,7 @@ public class StorageStatus implements Cloneable {
     private String name;
     private long freeSpace;
     private long usedSpace;
+    private long objectCount;
 
     public String getName() {
         return name;
@@ -48,12 +49,24 @@ public class StorageStatus implements Cloneable {
         this.usedSpace = usedSpace;
     }
 
+    /**
+     * @return the number of objects held in the storage, such as the number of buffers in a buffer pool
+     */
+    public long getObjectCount() {
+        return objectCount;
+    }
+
+    public void setObjectCount(final long objectCount) {
+        this.objectCount = objectCount;
+    }
+
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder("StorageStatus{");
         builder.append("name='").append(name).append('\'');
         builder.append(", freeSpace=").append(freeSpace);
         builder.append(", usedSpace=").append(usedSpace);
+        builder.append(", objectCount=").append(objectCount);
         builder.append('}');
         return builder.toString();
     }
@@ -64,6 +77,7 @@ public class StorageStatus implements Cloneable {
         clonedObj.name = name;
         clonedObj.freeSpace = freeSpace;
         clonedObj.usedSpace = usedSpace;
+        clonedObj.objectCount = objectCount;
         return clonedObj;
     }
 }
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status.analytics;
+
+import org.apache.nifi.controller.status.ConnectionStatus;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lightweight {@link StatusAnalytics} for a single connection that forecasts queued count and bytes with a pair of
+ * {@link HoltLinearModel}s. Each observation is learned in constant time and memory, so a forecaster can be kept for
+ * every connection in the flow.
+ * <p>
+ * Times to back pressure are reported as <code>0</code> if the threshold has already been reached and as <code>-1</code>
+ * if the threshold is not configured or the forecast never reaches it.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public class ConnectionStatusForecaster implements StatusAnalytics {
+
+    public static final String TIME_TO_COUNT_BACKPRESSURE_MILLIS = "timeToCountBackpressureMillis";
+    public static final String TIME_TO_BYTES_BACKPRESSURE_MILLIS = "timeToBytesBackpressureMillis";
+    public static final String NEXT_INTERVAL_COUNT = "nextIntervalCount";
+    public static final String NEXT_INTERVAL_BYTES = "nextIntervalBytes";
+    public static final String NEXT_INTERVAL_PERCENTAGE_USE_COUNT = "nextIntervalPercentageUseCount";
+    public static final String NEXT_INTERVAL_PERCENTAGE_USE_BYTES = "nextIntervalPercentageUseBytes";
+    public static final String INTERVAL_TIME_MILLIS = "intervalTimeMillis";
+
+    private final long predictionIntervalMillis;
+    private final HoltLinearModel countModel;
+    private final HoltLinearModel bytesModel;
+
+    private long firstTimestampMillis;
+    private long lastTimestampMillis;
+    private long queuedCount;
+    private long queuedBytes;
+    private long countThreshold;
+    private long bytesThreshold;
+
+    /**
+     * @param predictionIntervalMillis how far ahead of the most recent observation to forecast the queue size
+     */
+    public ConnectionStatusForecaster(final long predictionIntervalMillis) {
+        this(predictionIntervalMillis, new HoltLinearModel(), new HoltLinearModel());
+    }
+
+    /**
+     * @param predictionIntervalMillis how far ahead of the most recent observation to forecast the queue size
+     * @param countModel model for the queued count
+     * @param bytesModel model for the queued bytes
+     */
+    public ConnectionStatusForecaster(final long predictionIntervalMillis, final HoltLinearModel countModel, final HoltLinearModel bytesModel) {
+        if (predictionIntervalMillis < 0) {
+            throw new IllegalArgumentException("Prediction interval must not be negative but was " + predictionIntervalMillis);
+        }
+
+        this.predictionIntervalMillis = predictionIntervalMillis;
+        this.countModel = countModel;
+        this.bytesModel = bytesModel;
+    }
+
+    /**
+     * Learn the queue size and back pressure thresholds of the connection. A status captured before the most recent one
+     * that has been learned is ignored.
+     * @param connectionStatus status of the connection
+     * @param timestampMillis time at which the status was captured
+     */
+    public synchronized void update(final ConnectionStatus connectionStatus, final long timestampMillis) {
+        if (countModel.getObservationCount() == 0) {
+            firstTimestampMillis = timestampMillis;
+        } else if (timestampMillis < lastTimestampMillis) {
+            return;
+        }
+
+        lastTimestampMillis = timestampMillis;
+        queuedCount = connectionStatus.getQueuedCount();
+        queuedBytes = connectionStatus.getQueuedBytes();
+        countThreshold = connectionStatus.getBackPressureObjectThreshold();
+        bytesThreshold = connectionStatus.getBackPressureBytesThreshold();
+
+        countModel.update(timestampMillis, queuedCount);
+        bytesModel.update(timestampMillis, queuedBytes);
+    }
+
+    /**
+     * @return the predictions for the connection, or <code>null</code> if no status has been learned
+     */
+    public synchronized ConnectionStatusPredictions getConnectionStatusPredictions() {
+        if (countModel.getObservationCount() == 0) {
+            return null;
+        }
+
+        final double predictionTimestamp = (double) lastTimestampMillis + predictionIntervalMillis;
+        final long nextCount = forecast(countModel, predictionTimestamp);
+        final long nextBytes = forecast(bytesModel, predictionTimestamp);
+
+        final ConnectionStatusPredictions predictions = new ConnectionStatusPredictions();
+        predictions.setPredictionIntervalMillis(predictionIntervalMillis);
+        predictions.setNextPredictedQueuedCount((int) Math.min(Integer.MAX_VALUE, nextCount));
+        predictions.setNextPredictedQueuedBytes(nextBytes);
+        predictions.setPredictedTimeToCountBackpressureMillis(timeToBackPressure(countModel, queuedCount, countThreshold));
+        predictions.setPredictedTimeToBytesBackpressureMillis(timeToBackPressure(bytesModel, queuedBytes, bytesThreshold));
+        predictions.setPredictedPercentCount(percentage(nextCount, countThreshold));
+        predictions.setPredictedPercentBytes(percentage(nextBytes, bytesThreshold));
+        return predictions;
+    }
+
+    /**
+     * @return the window spanned by the learned statuses, or <code>null</code> if no status has been learned
+     */
+    @Override
+    public synchronized QueryWindow getQueryWindow() {
+        if (countModel.getObservationCount() == 0) {
+            return null;
+        }
+
+        return new QueryWindow(firstTimestampMillis, lastTimestampMillis);
+    }
+
+    @Override
+    public Map<String, Long> getPredictions() {
+        final ConnectionStatusPredictions predictions = getConnectionStatusPredictions();
+        final Map<String, Long> predictionMap = new HashMap<>();
+        if (predictions != null) {
+            predictionMap.put(TIME_TO_COUNT_BACKPRESSURE_MILLIS, predictions.getPredictedTimeToCountBackpressureMillis());
+            predictionMap.put(TIME_TO_BYTES_BACKPRESSURE_MILLIS, predictions.getPredictedTimeToBytesBackpressureMillis());
+            predictionMap.put(NEXT_INTERVAL_COUNT, (long) predictions.getNextPredictedQueuedCount());
+            predictionMap.put(NEXT_INTERVAL_BYTES, predictions.getNextPredictedQueuedBytes());
+            predictionMap.put(NEXT_INTERVAL_PERCENTAGE_USE_COUNT, (long) predictions.getPredictedPercentCount());
+            predictionMap.put(NEXT_INTERVAL_PERCENTAGE_USE_BYTES, (long) predictions.getPredictedPercentBytes());
+            predictionMap.put(INTERVAL_TIME_MILLIS, predictions.getPredictionIntervalMillis());
+        }
+        return predictionMap;
+    }
+
+    @Override
+    public boolean supportsOnlineLearning() {
+        return true;
+    }
+
+    /**
+     * Resets the forecaster by clearing both models
+     */
+    public synchronized void clear() {
+        countModel.clear();
+        bytesModel.clear();
+        firstTimestampMillis = 0;
+        lastTimestampMillis = 0;
+        queuedCount = 0;
+        queuedBytes = 0;
+        countThreshold = 0;
+        bytesThreshold = 0;
+    }
+
+    private static long forecast(final HoltLinearModel model, final double timestamp) {
+        return Math.max(0L, Math.round(model.predict(timestamp)));
+    }
+
+    private long timeToBackPressure(final HoltLinearModel model, final long queued, final long threshold) {
+        if (threshold <= 0) {
+            return -1L;
+        }
+        if (queued >= threshold || model.getLevel() >= threshold) {
+            return 0L;
+        }
+
+        final Double timestamp = model.predictVariable(0, Map.of(), (double) threshold);
+        return timestamp == null ? -1L : Math.max(0L, Math.round(timestamp - lastTimestampMillis));
+    }
+
+    private static int percentage(final long value, final long threshold) {
+        if (threshold <= 0) {
+            return 0;
+        }
+
+        return (int) Math.min(100L, Math.round(value * 100D / threshold));
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionStatusForecaster[predictionIntervalMillis=" + predictionIntervalMillis + ", countModel=" + countModel + ", bytesModel=" + bytesModel + "]";
+    }
+}
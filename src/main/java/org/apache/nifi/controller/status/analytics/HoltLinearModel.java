@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status.analytics;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * A constant-memory, online {@link StatusAnalyticsModel} that applies Holt linear (double exponential) smoothing to a single
+ * time series. The single feature of each observation is its timestamp in milliseconds and the label is the observed value.
+ * Observations may be irregularly spaced: the trend is tracked as a rate of change per millisecond. Each observation is
+ * learned in constant time and the model retains no observation history.
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public class HoltLinearModel implements StatusAnalyticsModel {
+
+    public static final double DEFAULT_LEVEL_SMOOTHING = 0.5D;
+    public static final double DEFAULT_TREND_SMOOTHING = 0.3D;
+
+    public static final String LEVEL_SCORE = "level";
+    public static final String TREND_SCORE = "trend";
+    public static final String OBSERVATION_COUNT_SCORE = "observationCount";
+    public static final String MEAN_SQUARED_ERROR_SCORE = "meanSquaredError";
+
+    private final double levelSmoothing;
+    private final double trendSmoothing;
+
+    private long observationCount;
+    private double lastTimestamp;
+    private double level;
+    private double trend;
+    private double meanSquaredError;
+
+    public HoltLinearModel() {
+        this(DEFAULT_LEVEL_SMOOTHING, DEFAULT_TREND_SMOOTHING);
+    }
+
+    /**
+     * @param levelSmoothing smoothing factor for the level, in the range (0, 1]
+     * @param trendSmoothing smoothing factor for the trend, in the range (0, 1]
+     * @throws IllegalArgumentException if either smoothing factor is out of range
+     */
+    public HoltLinearModel(final double levelSmoothing, final double trendSmoothing) {
+        if (!(levelSmoothing > 0D && levelSmoothing <= 1D)) {
+            throw new IllegalArgumentException("Level smoothing factor must be in the range (0, 1] but was " + levelSmoothing);
+        }
+        if (!(trendSmoothing > 0D && trendSmoothing <= 1D)) {
+            throw new IllegalArgumentException("Trend smoothing factor must be in the range (0, 1] but was " + trendSmoothing);
+        }
+
+        this.levelSmoothing = levelSmoothing;
+        this.trendSmoothing = trendSmoothing;
+    }
+
+    @Override
+    public void learn(final Stream<Double[]> features, final Stream<Double> labels) {
+        final Iterator<Double[]> featureIterator = features.iterator();
+        final Iterator<Double> labelIterator = labels.iterator();
+        while (featureIterator.hasNext() && labelIterator.hasNext()) {
+            update(featureIterator.next()[0], labelIterator.next());
+        }
+
+        if (featureIterator.hasNext() || labelIterator.hasNext()) {
+            throw new IllegalArgumentException("Number of feature observations does not match number of labels");
+        }
+    }
+
+    @Override
+    public void learn(final double[][] features, final double[] labels) {
+        if (features.length != labels.length) {
+            throw new IllegalArgumentException("Number of feature observations " + features.length + " does not match number of labels " + labels.length);
+        }
+
+        for (int i = 0; i < labels.length; i++) {
+            update(features[i][0], labels[i]);
+        }
+    }
+
+    @Override
+    public void update(final double[] features, final double label) {
+        update(features[0], label);
+    }
+
+    /**
+     * Learn a single observation. Observations older than the most recent observation are ignored, and observations at the
+     * same timestamp as the most recent observation update the level only.
+     * @param timestamp timestamp of the observation in milliseconds
+     * @param value observed value
+     */
+    public synchronized void update(final double timestamp, final double value) {
+        if (observationCount == 0) {
+            level = value;
+            trend = 0D;
+            lastTimestamp = timestamp;
+            observationCount = 1;
+            return;
+        }
+        if (timestamp < lastTimestamp) {
+            return;
+        }
+
+        final double elapsed = timestamp - lastTimestamp;
+        final double forecast = level + trend * elapsed;
+        final double error = value - forecast;
+        meanSquaredError += (error * error - meanSquaredError) / observationCount;
+
+        final double previousLevel = level;
+        level = levelSmoothing * value + (1D - levelSmoothing) * forecast;
+        if (elapsed > 0D) {
+            trend = trendSmoothing * (level - previousLevel) / elapsed + (1D - trendSmoothing) * trend;
+            lastTimestamp = timestamp;
+        }
+        observationCount++;
+    }
+
+    /**
+     * Return the forecast value at the timestamp given as the single feature
+     * @param feature timestamp in milliseconds
+     * @return forecast value, or <code>null</code> if no observations have been learned
+     */
+    @Override
+    public Double predict(final Double[] feature) {
+        final double prediction = predict(feature[0].doubleValue());
+        return Double.isNaN(prediction) ? null : prediction;
+    }
+
+    @Override
+    public double predict(final double[] features) {
+        return predict(features[0]);
+    }
+
+    /**
+     * @param timestamp timestamp in milliseconds
+     * @return forecast value at the given timestamp, or {@link Double#NaN} if no observations have been learned
+     */
+    public synchronized double predict(final double timestamp) {
+        if (observationCount == 0) {
+            return Double.NaN;
+        }
+
+        return level + trend * (timestamp - lastTimestamp);
+    }
+
+    /**
+     * Return the timestamp at which the forecast reaches the given value. The timestamp is the only feature of this model,
+     * so the predictor values are ignored.
+     * @param predictVariableIndex index of the feature to predict, which must be 0
+     * @param knownVariablesWithIndex ignored
+     * @param label value to be reached
+     * @return timestamp in milliseconds, or <code>null</code> if the forecast never reaches the value
+     */
+    @Override
+    public synchronized Double predictVariable(final Integer predictVariableIndex, final Map<Integer, Double> knownVariablesWithIndex, final Double label) {
+        if (predictVariableIndex == null || predictVariableIndex != 0) {
+            throw new IllegalArgumentException("Model has a single feature but index " + predictVariableIndex + " was requested");
+        }
+        if (observationCount == 0) {
+            return null;
+        }
+
+        final double difference = label - level;
+        if (difference == 0D) {
+            return lastTimestamp;
+        }
+
+        final double elapsed = difference / trend;
+        return elapsed > 0D && Double.isFinite(elapsed) ? lastTimestamp + elapsed : null;
+    }
+
+    @Override
+    public Boolean supportsOnlineLearning() {
+        return true;
+    }
+
+    @Override
+    public synchronized Map<String, Double> getScores() {
+        final Map<String, Double> scores = new HashMap<>();
+        scores.put(LEVEL_SCORE, level);
+        scores.put(TREND_SCORE, trend);
+        scores.put(OBSERVATION_COUNT_SCORE, (double) observationCount);
+        scores.put(MEAN_SQUARED_ERROR_SCORE, meanSquaredError);
+        return scores;
+    }
+
+    @Override
+    public synchronized void clear() {
+        observationCount = 0;
+        lastTimestamp = 0D;
+        level = 0D;
+        trend = 0D;
+        meanSquaredError = 0D;
+    }
+
+    /**
+     * @return the number of observations learned since the model was created or cleared
+     */
+    public synchronized long getObservationCount() {
+        return observationCount;
+    }
+
+    /**
+     * @return the timestamp in milliseconds of the most recent observation
+     */
+    public synchronized double getLastTimestamp() {
+        return lastTimestamp;
+    }
+
+    /**
+     * @return the current smoothed value
+     */
+    public synchronized double getLevel() {
+        return level;
+    }
+
+    /**
+     * @return the current smoothed rate of change per millisecond
+     */
+    public synchronized double getTrend() {
+        return trend;
+    }
+
+    @Override
+    public String toString() {
+        return "HoltLinearModel[levelSmoothing=" + levelSmoothing + ", trendSmoothing=" + trendSmoothing + ", " + getScores() + "]";
+    }
+}
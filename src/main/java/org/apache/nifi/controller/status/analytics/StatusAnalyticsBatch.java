@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status.analytics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The status analytics for a set of components, keyed by component identifier, together with the Query Window
+ * over which they were computed.
+ */
+public final class StatusAnalyticsBatch {
+
+    private final QueryWindow queryWindow;
+    private final Map<String, StatusAnalytics> statusAnalytics;
+
+    public StatusAnalyticsBatch(final QueryWindow queryWindow, final Map<String, StatusAnalytics> statusAnalytics) {
+        this.queryWindow = queryWindow;
+        this.statusAnalytics = Collections.unmodifiableMap(new HashMap<>(Objects.requireNonNull(statusAnalytics, "Status Analytics are required")));
+    }
+
+    /**
+     * Creates a batch from analytics that were computed independently, using the smallest Query Window that covers the
+     * Query Windows of all of the analytics
+     *
+     * @param statusAnalytics the analytics keyed by component identifier
+     * @return the batch
+     */
+    public static StatusAnalyticsBatch of(final Map<String, StatusAnalytics> statusAnalytics) {
+        return new StatusAnalyticsBatch(coveringQueryWindow(statusAnalytics.values()), statusAnalytics);
+    }
+
+    /**
+     * @return the Query Window over which the analytics in this batch were computed, or, for a batch created with
+     * {@link #of(Map)}, the smallest Query Window that covers the windows of all the analytics; <code>null</code> if the batch is empty
+     */
+    public QueryWindow getQueryWindow() {
+        return queryWindow;
+    }
+
+    /**
+     * @return the analytics keyed by component identifier; components for which no analytics are available are not included
+     */
+    public Map<String, StatusAnalytics> getStatusAnalytics() {
+        return statusAnalytics;
+    }
+
+    /**
+     * @param componentId identifier for component
+     * @return the analytics for the given component, or <code>null</code> if none are available
+     */
+    public StatusAnalytics getStatusAnalytics(final String componentId) {
+        return statusAnalytics.get(componentId);
+    }
+
+    private static QueryWindow coveringQueryWindow(final Collection<StatusAnalytics> statusAnalytics) {
+        long startTimeMillis = Long.MAX_VALUE;
+        long endTimeMillis = Long.MIN_VALUE;
+        for (final StatusAnalytics analytics : statusAnalytics) {
+            final QueryWindow queryWindow = analytics.getQueryWindow();
+            if (queryWindow != null) {
+                startTimeMillis = Math.min(startTimeMillis, queryWindow.getStartTimeMillis());
+                endTimeMillis = Math.max(endTimeMillis, queryWindow.getEndTimeMillis());
+            }
+        }
+
+        return startTimeMillis > endTimeMillis ? null : new QueryWindow(startTimeMillis, endTimeMillis);
+    }
+}
@@ -16,13 +16,63 @@
  */
 package org.apache.nifi.controller.status.analytics;
 
+import org.apache.nifi.controller.status.ConnectionStatus;
+import org.apache.nifi.controller.status.ProcessGroupStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
 public interface StatusAnalyticsEngine {
 
     /**
-     * Retrieve status analytics object for given component
+     * Retrieve status analytics object for given component. Implementations are not required to be thread-safe.
      * @param componentId identifier for component
      * @return component specific status analytics object
      */
     StatusAnalytics getStatusAnalytics(String componentId);
 
+    /**
+     * Retrieve status analytics for a set of components in a single call. Implementations should compute the analytics for
+     * all components over a single Query Window and may do so in parallel using an executor that they manage. The default
+     * implementation invokes {@link #getStatusAnalytics(String)} for each component sequentially on the calling thread and
+     * reports the smallest Query Window that covers the windows of all the analytics, which the analytics do not necessarily share.
+     * @param componentIds identifiers for components
+     * @return analytics keyed by component identifier, omitting components for which no analytics are available
+     */
+    default StatusAnalyticsBatch getStatusAnalytics(Collection<String> componentIds) {
+        final Map<String, StatusAnalytics> statusAnalytics = new HashMap<>();
+        for (final String componentId : new LinkedHashSet<>(componentIds)) {
+            final StatusAnalytics analytics = getStatusAnalytics(componentId);
+            if (analytics != null) {
+                statusAnalytics.put(componentId, analytics);
+            }
+        }
+
+        return StatusAnalyticsBatch.of(statusAnalytics);
+    }
+
+    /**
+     * Retrieve status analytics for every connection in the given process group and all of its descendant groups
+     * @param groupStatus status of the process group
+     * @return analytics keyed by connection identifier, omitting connections for which no analytics are available
+     */
+    default StatusAnalyticsBatch getConnectionStatusAnalytics(ProcessGroupStatus groupStatus) {
+        final List<String> connectionIds = new ArrayList<>();
+        final List<ProcessGroupStatus> groups = new ArrayList<>();
+        groups.add(groupStatus);
+        while (!groups.isEmpty()) {
+            final ProcessGroupStatus group = groups.remove(groups.size() - 1);
+            for (final ConnectionStatus connectionStatus : group.getConnectionStatus()) {
+                connectionIds.add(connectionStatus.getId());
+            }
+            groups.addAll(group.getProcessGroupStatus());
+        }
+
+        return getStatusAnalytics(connectionIds);
+    }
+
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.nifi.controller.status.analytics;
 
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -35,6 +37,83 @@ public interface StatusAnalyticsModel {
      */
     Double predict(Double[] feature);
 
+    /**
+     * Train model with provided observations, without boxing. The default implementation adapts to {@link #learn(Stream, Stream)};
+     * models should override it to train directly on the primitive arrays.
+     * @param features feature observation values, one array per observation
+     * @param labels target observation values, one per observation
+     * @throws IllegalArgumentException if the number of feature observations differs from the number of labels
+     */
+    default void learn(final double[][] features, final double[] labels) {
+        if (features.length != labels.length) {
+            throw new IllegalArgumentException("Number of feature observations " + features.length + " does not match number of labels " + labels.length);
+        }
+
+        learn(Arrays.stream(features).map(StatusAnalyticsModel::box), Arrays.stream(labels).boxed());
+    }
+
+    /**
+     * Train model with observations provided in buffers, without boxing. Features are packed row by row, so that the buffer
+     * holds <code>featureCount</code> values for each label. The positions of the buffers are not modified.
+     * @param features feature observation values, packed row by row
+     * @param featureCount number of features in each observation
+     * @param labels target observation values, one per observation
+     * @throws IllegalArgumentException if the number of feature values is not <code>featureCount</code> times the number of labels
+     */
+    default void learn(final DoubleBuffer features, final int featureCount, final DoubleBuffer labels) {
+        final int observationCount = labels.remaining();
+        if (featureCount < 1 || features.remaining() != (long) observationCount * featureCount) {
+            throw new IllegalArgumentException("Expected " + featureCount + " feature values for each of " + observationCount + " labels but found " + features.remaining());
+        }
+
+        final DoubleBuffer featureValues = features.duplicate();
+        final double[][] featureRows = new double[observationCount][featureCount];
+        for (final double[] featureRow : featureRows) {
+            featureValues.get(featureRow);
+        }
+
+        final double[] labelValues = new double[observationCount];
+        labels.duplicate().get(labelValues);
+        learn(featureRows, labelValues);
+    }
+
+    /**
+     * Incrementally train the model with a single observation. Only models for which {@link #supportsOnlineLearning()} returns
+     * <code>true</code> support this method; such models should override it in order to update their state without allocating.
+     * The default implementation adapts to {@link #learn(Stream, Stream)}.
+     * @param features feature observation values
+     * @param label target observation value
+     * @throws UnsupportedOperationException if the model does not support online learning
+     */
+    default void update(final double[] features, final double label) {
+        if (!Boolean.TRUE.equals(supportsOnlineLearning())) {
+            throw new UnsupportedOperationException(getClass().getName() + " does not support online learning");
+        }
+
+        learn(Stream.<Double[]>of(box(features)), Stream.of(label));
+    }
+
+    /**
+     * Return a prediction given observation values, without boxing. The default implementation adapts to {@link #predict(Double[])}.
+     * @param features feature observation values
+     * @return prediction of target/label, or {@link Double#NaN} if the model cannot make a prediction
+     */
+    default double predict(final double[] features) {
+        final Double prediction = predict(box(features));
+        return prediction == null ? Double.NaN : prediction;
+    }
+
+    /**
+     * Return a prediction given the observation values remaining in the buffer. The position of the buffer is not modified.
+     * @param features feature observation values
+     * @return prediction of target/label, or {@link Double#NaN} if the model cannot make a prediction
+     */
+    default double predict(final DoubleBuffer features) {
+        final double[] featureValues = new double[features.remaining()];
+        features.duplicate().get(featureValues);
+        return predict(featureValues);
+    }
+
     /**
      * Predict a feature given a known target and known predictor values (if multiple predictors are included with model)
      * @param predictVariableIndex index of feature that we would like to predict (index should align with order provided in model learn method)
@@ -61,4 +140,12 @@ public interface StatusAnalyticsModel {
      */
     void clear();
 
+    private static Double[] box(final double[] values) {
+        final Double[] boxed = new Double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = values[i];
+        }
+        return boxed;
+    }
+
 }
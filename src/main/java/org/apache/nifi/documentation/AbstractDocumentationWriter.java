@@ -28,6 +28,7 @@ import org.apache.nifi.annotation.behavior.SideEffectFree;
 import org.apache.nifi.annotation.behavior.Stateful;
 import org.apache.nifi.annotation.behavior.SupportsBatching;
 import org.apache.nifi.annotation.behavior.SupportsSensitiveDynamicProperties;
+import org.apache.nifi.annotation.behavior.SupportsVirtualThreads;
 import org.apache.nifi.annotation.behavior.SystemResourceConsideration;
 import org.apache.nifi.annotation.behavior.TriggerSerially;
 import org.apache.nifi.annotation.behavior.TriggerWhenAnyDestinationAvailable;
@@ -168,6 +169,7 @@ public abstract class AbstractDocumentationWriter implements ExtensionDocumentat
             writeTriggerWhenEmpty(processor.getClass().getAnnotation(TriggerWhenEmpty.class));
             writeTriggerWhenAnyDestinationAvailable(processor.getClass().getAnnotation(TriggerWhenAnyDestinationAvailable.class));
             writeSupportsBatching(processor.getClass().getAnnotation(SupportsBatching.class));
+            writeSupportsVirtualThreads(processor.getClass().getAnnotation(SupportsVirtualThreads.class));
             writePrimaryNodeOnly(processor.getClass().getAnnotation(PrimaryNodeOnly.class));
             writeSideEffectFree(processor.getClass().getAnnotation(SideEffectFree.class));
             writeDefaultSettings(processor.getClass().getAnnotation(DefaultSettings.class));
@@ -362,6 +364,17 @@ public abstract class AbstractDocumentationWriter implements ExtensionDocumentat
 
     protected abstract void writeSupportsBatching(SupportsBatching supportsBatching) throws IOException;
 
+    /**
+     * Writes the {@link SupportsVirtualThreads} declaration of a Processor. The default implementation writes nothing,
+     * so that existing writers are not required to implement it.
+     *
+     * @param supportsVirtualThreads the annotation, or <code>null</code> if the Processor does not declare it
+     * @throws IOException if unable to write the declaration
+     */
+    protected void writeSupportsVirtualThreads(SupportsVirtualThreads supportsVirtualThreads) throws IOException {
+        // no-op by default
+    }
+
     protected abstract void writeSupportsSensitiveDynamicProperties(SupportsSensitiveDynamicProperties supportsSensitiveDynamicProperties) throws IOException;
 
     protected abstract void writePrimaryNodeOnly(PrimaryNodeOnly primaryNodeOnly) throws IOException;
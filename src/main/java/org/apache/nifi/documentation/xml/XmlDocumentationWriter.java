@@ -27,6 +27,7 @@ import org.apache.nifi.annotation.behavior.SideEffectFree;
 import org.apache.nifi.annotation.behavior.Stateful;
 import org.apache.nifi.annotation.behavior.SupportsBatching;
 import org.apache.nifi.annotation.behavior.SupportsSensitiveDynamicProperties;
+import org.apache.nifi.annotation.behavior.SupportsVirtualThreads;
 import org.apache.nifi.annotation.behavior.SystemResourceConsideration;
 import org.apache.nifi.annotation.behavior.TriggerSerially;
 import org.apache.nifi.annotation.behavior.TriggerWhenAnyDestinationAvailable;
@@ -548,6 +549,14 @@ public class XmlDocumentationWriter extends AbstractDocumentationWriter {
         writeBooleanElement("supportsBatching", true);
     }
 
+    @Override
+    protected void writeSupportsVirtualThreads(SupportsVirtualThreads supportsVirtualThreads) throws IOException {
+        if (supportsVirtualThreads == null) {
+            return;
+        }
+        writeBooleanElement("supportsVirtualThreads", true);
+    }
+
     @Override
     protected void writeSupportsSensitiveDynamicProperties(final SupportsSensitiveDynamicProperties supportsSensitiveDynamicProperties) throws IOException {
         if (supportsSensitiveDynamicProperties == null) {
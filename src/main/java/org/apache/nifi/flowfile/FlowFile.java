@@ -16,7 +16,12 @@
  */
 package org.apache.nifi.flowfile;
 
+import org.apache.nifi.flowfile.attributes.FlowFileAttributeKey;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * <p>
@@ -108,6 +113,85 @@ public interface FlowFile extends Comparable<FlowFile> {
      */
     Map<String, String> getAttributes();
 
+    /**
+     * Obtains the attribute value for the given well-known key
+     *
+     * @param key of the attribute
+     * @return value if found; null otherwise
+     */
+    default String getAttribute(FlowFileAttributeKey key) {
+        return getAttribute(key.key());
+    }
+
+    /**
+     * Obtains the attribute value for the given key parsed as a {@code long}
+     *
+     * @param key of the attribute
+     * @return value if found; null otherwise
+     * @throws NumberFormatException if the attribute value is not a valid {@code long}
+     */
+    default Long getAttributeAsLong(String key) {
+        final String value = getAttribute(key);
+        return value == null ? null : Long.valueOf(value.trim());
+    }
+
+    /**
+     * Obtains the attribute value for the given key parsed as an {@code int}
+     *
+     * @param key of the attribute
+     * @return value if found; null otherwise
+     * @throws NumberFormatException if the attribute value is not a valid {@code int}
+     */
+    default Integer getAttributeAsInteger(String key) {
+        final String value = getAttribute(key);
+        return value == null ? null : Integer.valueOf(value.trim());
+    }
+
+    /**
+     * Obtains the attribute value for the given key parsed as a {@code double}
+     *
+     * @param key of the attribute
+     * @return value if found; null otherwise
+     * @throws NumberFormatException if the attribute value is not a valid {@code double}
+     */
+    default Double getAttributeAsDouble(String key) {
+        final String value = getAttribute(key);
+        return value == null ? null : Double.valueOf(value.trim());
+    }
+
+    /**
+     * Obtains the attribute value for the given key parsed as an {@link Instant}.
+     * The value may be either a number of milliseconds since the epoch or an ISO-8601 instant such as {@code 2024-01-01T00:00:00Z}.
+     *
+     * @param key of the attribute
+     * @return value if found; null otherwise
+     * @throws DateTimeParseException if the attribute value is neither a number of milliseconds nor a valid ISO-8601 instant
+     */
+    default Instant getAttributeAsInstant(String key) {
+        final String value = getAttribute(key);
+        if (value == null) {
+            return null;
+        }
+
+        final String trimmed = value.trim();
+        try {
+            return Instant.ofEpochMilli(Long.parseLong(trimmed));
+        } catch (final NumberFormatException e) {
+            return Instant.parse(trimmed);
+        }
+    }
+
+    /**
+     * Performs the given action for each attribute of this FlowFile.
+     * Implementations are encouraged to override this method so that the attributes can be visited
+     * without materializing the map returned by {@link #getAttributes()}.
+     *
+     * @param action to be performed for each attribute key and value
+     */
+    default void forEachAttribute(BiConsumer<String, String> action) {
+        getAttributes().forEach(action);
+    }
+
     class KeyValidator {
 
         private KeyValidator() {
@@ -16,6 +16,11 @@
  */
 package org.apache.nifi.flowfile.attributes;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum CoreAttributes implements FlowFileAttributeKey {
 
     /**
@@ -51,6 +56,9 @@ public enum CoreAttributes implements FlowFileAttributeKey {
      */
     ALTERNATE_IDENTIFIER("alternate.identifier");
 
+    private static final Map<String, CoreAttributes> KEYS = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(CoreAttributes::key, Function.identity()));
+
     private final String key;
 
     CoreAttributes(final String key) {
@@ -62,4 +70,28 @@ public enum CoreAttributes implements FlowFileAttributeKey {
         return key;
     }
 
+    /**
+     * Returns the Core Attribute with the given key. The {@link #ordinal()} of the returned value is stable for a given release
+     * and may be used by FlowFile implementations as the index of a fixed slot in which to store the attribute value.
+     *
+     * @param key the attribute key
+     * @return the Core Attribute with the given key, or {@code null} if the key is not the key of a Core Attribute
+     */
+    public static CoreAttributes fromKey(final String key) {
+        return key == null ? null : KEYS.get(key);
+    }
+
+    /**
+     * Returns the canonical instance of the given attribute key. For the key of a Core Attribute, this is the String returned by
+     * {@link #key()}, so that FlowFile implementations can share a single instance of each well-known key rather than retaining a copy per FlowFile.
+     * For any other key, the given key is returned.
+     *
+     * @param key the attribute key
+     * @return the canonical instance of the key
+     */
+    public static String intern(final String key) {
+        final CoreAttributes coreAttribute = fromKey(key);
+        return coreAttribute == null ? key : coreAttribute.key();
+    }
+
 }
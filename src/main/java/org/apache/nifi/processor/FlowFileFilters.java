@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processor;
+
+import org.apache.nifi.flowfile.FlowFile;
+import org.apache.nifi.processor.FlowFileFilter.FlowFileFilterResult;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Provides standard implementations of {@link FlowFileFilter} for common batching needs.
+ * As with any {@link FlowFileFilter}, the filters returned by this class are stateful and are not thread-safe,
+ * so a new filter must be obtained for each call to {@link ProcessSession#get(FlowFileFilter)}.
+ */
+public final class FlowFileFilters {
+
+    private FlowFileFilters() {
+    }
+
+    /**
+     * Returns a new {@link FlowFileFilter} that accepts FlowFiles until either {@code maxCount} FlowFiles have been accepted
+     * or accepting the next FlowFile would cause the combined size of all accepted FlowFiles to exceed {@code maxBytes}.
+     * The first FlowFile is always accepted, even if its size alone exceeds {@code maxBytes},
+     * so that a single large FlowFile cannot prevent progress.
+     *
+     * @param maxBytes the maximum combined size, in bytes, of the accepted FlowFiles
+     * @param maxCount the maximum number of FlowFiles to accept
+     * @return a new {@link FlowFileFilter} that limits the accepted FlowFiles by count and combined size
+     * @throws IllegalArgumentException if {@code maxBytes} or {@code maxCount} is less than 0
+     */
+    public static FlowFileFilter newSizeBasedFilter(final long maxBytes, final int maxCount) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Max Bytes must be non-negative but was " + maxBytes);
+        }
+        if (maxCount < 0) {
+            throw new IllegalArgumentException("Max Count must be non-negative but was " + maxCount);
+        }
+
+        return new FlowFileFilter() {
+            private int count = 0;
+            private long bytes = 0L;
+
+            @Override
+            public FlowFileFilterResult filter(final FlowFile flowFile) {
+                if (count >= maxCount) {
+                    return FlowFileFilterResult.REJECT_AND_TERMINATE;
+                }
+
+                final long size = flowFile.getSize();
+                if (count > 0 && bytes + size > maxBytes) {
+                    return FlowFileFilterResult.REJECT_AND_TERMINATE;
+                }
+
+                count++;
+                bytes += size;
+                if (count >= maxCount || bytes >= maxBytes) {
+                    return FlowFileFilterResult.ACCEPT_AND_TERMINATE;
+                }
+                return FlowFileFilterResult.ACCEPT_AND_CONTINUE;
+            }
+        };
+    }
+
+    /**
+     * Returns a new {@link FlowFileFilter} that groups FlowFiles by the value of the given attribute.
+     * FlowFiles are accepted for up to {@code maxGroups} distinct attribute values, in the order in which the values are encountered,
+     * and up to {@code maxPerGroup} FlowFiles are accepted for each value. FlowFiles that do not have the attribute are grouped together.
+     * FlowFiles belonging to other groups, or to groups that are already full, are rejected,
+     * and filtering terminates as soon as all groups are full.
+     *
+     * @param attributeName the name of the attribute whose value determines the group of each FlowFile
+     * @param maxGroups the maximum number of distinct groups to accept FlowFiles for
+     * @param maxPerGroup the maximum number of FlowFiles to accept for each group
+     * @return a new {@link FlowFileFilter} that limits the accepted FlowFiles by group
+     * @throws IllegalArgumentException if {@code maxGroups} or {@code maxPerGroup} is less than 0
+     */
+    public static FlowFileFilter newAttributeGroupingFilter(final String attributeName, final int maxGroups, final int maxPerGroup) {
+        FlowFile.KeyValidator.validateKey(attributeName);
+        if (maxGroups < 0) {
+            throw new IllegalArgumentException("Max Groups must be non-negative but was " + maxGroups);
+        }
+        if (maxPerGroup < 0) {
+            throw new IllegalArgumentException("Max Per Group must be non-negative but was " + maxPerGroup);
+        }
+
+        return new FlowFileFilter() {
+            private final Map<String, Integer> groupCounts = new HashMap<>();
+            private int fullGroups = 0;
+
+            @Override
+            public FlowFileFilterResult filter(final FlowFile flowFile) {
+                if (maxPerGroup == 0 || fullGroups >= maxGroups) {
+                    return FlowFileFilterResult.REJECT_AND_TERMINATE;
+                }
+
+                final String groupKey = flowFile.getAttribute(attributeName);
+                final Integer groupCount = groupCounts.get(groupKey);
+                final int count;
+                if (groupCount == null) {
+                    if (groupCounts.size() >= maxGroups) {
+                        return FlowFileFilterResult.REJECT_AND_CONTINUE;
+                    }
+                    count = 1;
+                } else if (groupCount >= maxPerGroup) {
+                    return FlowFileFilterResult.REJECT_AND_CONTINUE;
+                } else {
+                    count = groupCount + 1;
+                }
+
+                groupCounts.put(groupKey, count);
+                if (count >= maxPerGroup) {
+                    fullGroups++;
+                }
+
+                if (fullGroups >= maxGroups) {
+                    return FlowFileFilterResult.ACCEPT_AND_TERMINATE;
+                }
+                return FlowFileFilterResult.ACCEPT_AND_CONTINUE;
+            }
+        };
+    }
+}
@@ -22,6 +22,10 @@ import org.apache.nifi.components.state.StateManager;
 import org.apache.nifi.context.ClusterContext;
 import org.apache.nifi.context.PropertyContext;
 import org.apache.nifi.controller.ControllerServiceLookup;
+import org.apache.nifi.processor.metrics.CommitTiming;
+import org.apache.nifi.processor.metrics.CounterHandle;
+import org.apache.nifi.processor.metrics.StandardCounterHandle;
+import org.apache.nifi.provenance.ProvenanceEventPolicy;
 import org.apache.nifi.scheduling.ExecutionNode;
 
 import java.util.Map;
@@ -164,4 +168,29 @@ public interface ProcessContext extends PropertyContext, ClusterContext {
      * @return the max number of times that the Processor will retry a FlowFile that is routed to a Relationship that is marked for Retry
      */
     int getRetryCount();
+
+    /**
+     * Obtains a handle to the counter with the given name. Obtaining the handle does not register the counter; the counter is
+     * registered on the first adjustment through {@link ProcessSession#adjustCounter(CounterHandle, long, CommitTiming)}.
+     * The handle can be retained, for example in a method annotated with {@code @OnScheduled},
+     * and passed to {@link ProcessSession#adjustCounter(CounterHandle, long, CommitTiming)}
+     * so that the counter does not have to be resolved by name on every adjustment.
+     *
+     * @param name the name of the counter
+     * @return a handle to the counter with the given name
+     */
+    default CounterHandle getCounterHandle(String name) {
+        return new StandardCounterHandle(name);
+    }
+
+    /**
+     * Returns the policy that determines which Provenance Events generated by this processor are recorded.
+     * Implementations of {@link org.apache.nifi.provenance.ProvenanceReporter} consult this policy
+     * so that sampled or excluded events are dropped before they are registered with the Provenance Repository.
+     *
+     * @return the Provenance Event policy for this processor
+     */
+    default ProvenanceEventPolicy getProvenanceEventPolicy() {
+        return ProvenanceEventPolicy.RECORD_ALL;
+    }
 }
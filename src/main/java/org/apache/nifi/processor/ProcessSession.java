@@ -26,20 +26,33 @@ import org.apache.nifi.processor.exception.MissingFlowFileException;
 import org.apache.nifi.processor.exception.ProcessException;
 import org.apache.nifi.processor.io.InputStreamCallback;
 import org.apache.nifi.processor.io.OutputStreamCallback;
+import org.apache.nifi.processor.io.ReadableByteChannelCallback;
 import org.apache.nifi.processor.io.StreamCallback;
+import org.apache.nifi.processor.io.WritableByteChannelCallback;
 import org.apache.nifi.processor.metrics.CommitTiming;
+import org.apache.nifi.processor.metrics.CounterHandle;
 import org.apache.nifi.provenance.ProvenanceEventType;
 import org.apache.nifi.provenance.ProvenanceReporter;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 /**
@@ -188,6 +201,37 @@ public interface ProcessSession {
      */
     void commitAsync(Runnable onSuccess, Consumer<Throwable> onFailure);
 
+    /**
+     * Commits the current session ensuring all operations against FlowFiles within this session are atomically persisted,
+     * allowing the framework to delay the commit by up to the given {@code maxLatency} so that it can be coalesced with commits of other sessions.
+     * All FlowFiles operated on within this session must be accounted for by transfer or removal or the commit will fail.
+     * <p>
+     * This method behaves as {@link #commitAsync(Runnable, Consumer)}, except that it opts the session in to group commit:
+     * rather than performing a separate FlowFile Repository update and Provenance Repository write for each session,
+     * the framework may gather the commits of many sessions and persist them together with a single repository update and sync.
+     * The {@code onSuccess} or {@code onFailure} callback of each session is still invoked individually once the group containing it has been persisted.
+     * Processors that commit many small sessions at a high rate can use this method to trade a bounded amount of latency for higher throughput.
+     * <p>
+     * The default implementation ignores the given latency and is equivalent to calling {@link #commitAsync(Runnable, Consumer)}.
+     *
+     * @param onSuccess {@link Runnable} that will be called if and when the session is successfully committed; may be null
+     * @param onFailure {@link Consumer} that will be called if, for any reason, the session could not be committed; may be null
+     * @param maxLatency the maximum amount of time by which the framework may delay the commit in order to coalesce it with other commits
+     * @throws IllegalArgumentException if {@code maxLatency} is null or negative
+     * @throws IllegalStateException if detected that this method is being called from within a read or write callback
+     *              (see {@link #read(FlowFile, InputStreamCallback)}, {@link #write(FlowFile, StreamCallback)},
+     *              {@link #write(FlowFile, OutputStreamCallback)}) or while a read or write stream is open
+     *              (see {@link #read(FlowFile)}, {@link #write(FlowFile)}).
+     * @throws FlowFileHandlingException if not all {@link FlowFile}s acted upon within this session are accounted for
+     *              such that they have a transfer identified or where marked for removal. Automated rollback occurs.
+     */
+    default void commitAsync(Runnable onSuccess, Consumer<Throwable> onFailure, Duration maxLatency) {
+        if (maxLatency == null || maxLatency.isNegative()) {
+            throw new IllegalArgumentException("Max Latency must be a non-negative duration but was " + maxLatency);
+        }
+        commitAsync(onSuccess, onFailure);
+    }
+
     /**
      * Reverts any changes made during this session.
      * All {@link FlowFile}s are restored back to their initial session state and back to their original queues.
@@ -255,6 +299,21 @@ public interface ProcessSession {
      */
     void adjustCounter(String name, long delta, boolean immediate);
 
+    /**
+     * Adjusts counter data for the counter referenced by the given {@link CounterHandle}.
+     * <p>
+     * This method is equivalent to {@link #adjustCounter(String, long, boolean)} but allows implementations to avoid resolving the counter
+     * by name on every call. The handle should be obtained once from {@link ProcessContext#getCounterHandle(String)} and retained.
+     *
+     * @param counter the handle of the counter to adjust
+     * @param delta the delta by which to modify the counter (+ or -)
+     * @param commitTiming Timing for when the adjustment should be applied; with {@link CommitTiming#SESSION_COMMITTED}
+     *            the counter will be adjusted only if and when the session is committed
+     */
+    default void adjustCounter(CounterHandle counter, long delta, CommitTiming commitTiming) {
+        adjustCounter(counter.getName(), delta, commitTiming == CommitTiming.NOW);
+    }
+
     /**
      * Record measurement value for the named Gauge, registering the named Gauge when not present in the system.
      * Gauges represent a measurement at a point in time, unlike counters that track cumulative values.
@@ -300,6 +359,49 @@ public interface ProcessSession {
      */
     List<FlowFile> get(FlowFileFilter filter);
 
+    /**
+     * Returns the next up to {@code maxResults} {@link FlowFile}s from the work queue that are the highest priority to process,
+     * stopping early if taking the next FlowFile would cause the combined size of the returned FlowFiles to exceed {@code maxBytes}.
+     * The first available FlowFile is always returned, even if its size alone exceeds {@code maxBytes}.
+     * If no FlowFiles are available, returns an empty list. Will not return {@code null}.
+     * <p>
+     * The default implementation is equivalent to calling {@link #get(FlowFileFilter)}
+     * with the filter provided by {@link FlowFileFilters#newSizeBasedFilter(long, int)}.
+     *
+     * @param maxResults the maximum number of {@link FlowFile}s to return
+     * @param maxBytes the maximum combined size, in bytes, of the {@link FlowFile}s to return
+     * @return up to {@code maxResults} {@link FlowFile}s from the work queue whose combined size does not exceed {@code maxBytes}
+     * @throws IllegalArgumentException if {@code maxResults} or {@code maxBytes} is less than 0
+     */
+    default List<FlowFile> get(int maxResults, long maxBytes) {
+        return get(FlowFileFilters.newSizeBasedFilter(maxBytes, maxResults));
+    }
+
+    /**
+     * Returns {@link FlowFile}s from the work queue grouped by the value of the given attribute.
+     * Up to {@code maxGroups} distinct attribute values are selected, in the order in which they are encountered in the work queue,
+     * and up to {@code maxPerGroup} FlowFiles are returned for each value.
+     * FlowFiles that do not have the attribute are grouped under the {@code null} key.
+     * If no FlowFiles are available, returns an empty map. Will not return {@code null}.
+     * <p>
+     * The default implementation is equivalent to calling {@link #get(FlowFileFilter)}
+     * with the filter provided by {@link FlowFileFilters#newAttributeGroupingFilter(String, int, int)} and grouping the result.
+     *
+     * @param attributeName the name of the attribute whose value determines the group of each {@link FlowFile}
+     * @param maxGroups the maximum number of groups to return
+     * @param maxPerGroup the maximum number of {@link FlowFile}s to return for each group
+     * @return the selected {@link FlowFile}s keyed by the value of the given attribute, in the order in which the groups were encountered
+     * @throws IllegalArgumentException if {@code attributeName} is null or blank, or if {@code maxGroups} or {@code maxPerGroup} is less than 0
+     */
+    default Map<String, List<FlowFile>> getGroupedBy(String attributeName, int maxGroups, int maxPerGroup) {
+        final List<FlowFile> flowFiles = get(FlowFileFilters.newAttributeGroupingFilter(attributeName, maxGroups, maxPerGroup));
+        final Map<String, List<FlowFile>> groups = new LinkedHashMap<>();
+        for (final FlowFile flowFile : flowFiles) {
+            groups.computeIfAbsent(flowFile.getAttribute(attributeName), key -> new ArrayList<>()).add(flowFile);
+        }
+        return groups;
+    }
+
     /**
      * Returns the {@link QueueSize} that represents the number of {@link FlowFile}s and their combined data size
      * for all FlowFiles waiting to be processed by the {@link Processor} that owns {@code this} {@link ProcessSession},
@@ -441,6 +543,63 @@ public interface ProcessSession {
      */
     FlowFile putAllAttributes(FlowFile flowFile, Map<String, String> attributes);
 
+    /**
+     * Updates each of the given {@link FlowFile}s' attributes with the given {@code key} / {@code value} pairs.
+     * <p>
+     * If the map contains a key named {@code uuid}, this attribute will be ignored.
+     * Calling this method is equivalent to calling {@link #putAllAttributes(FlowFile, Map)} for each of the given FlowFiles,
+     * but allows implementations to apply the changes to all FlowFiles in a single pass over the session's records.
+     *
+     * @param flowFiles to update
+     * @param attributes the attributes to add or modify
+     * @return the updated {@link FlowFile}s with the attributes added or modified, in the iteration order of the given {@code flowFiles}
+     * @throws IllegalStateException if detected that this method is being called from within a read or write callback
+     *              (see {@link #read(FlowFile, InputStreamCallback)}, {@link #write(FlowFile, StreamCallback)},
+     *              {@link #write(FlowFile, OutputStreamCallback)}) or while a read or write stream is open
+     *              (see {@link #read(FlowFile)}, {@link #write(FlowFile)}) for any of the {@code flowFiles} {@link FlowFile}s
+     * @throws FlowFileHandlingException if any of the given {@link FlowFile}s is already transferred or removed or doesn't belong to this session.
+     *              Automatic rollback will occur.
+     */
+    default List<FlowFile> putAllAttributes(Collection<FlowFile> flowFiles, Map<String, String> attributes) {
+        final List<FlowFile> updated = new ArrayList<>(flowFiles.size());
+        for (final FlowFile flowFile : flowFiles) {
+            updated.add(putAllAttributes(flowFile, attributes));
+        }
+        return updated;
+    }
+
+    /**
+     * Updates each of the given {@link FlowFile}s' attributes with the {@code key} / {@code value} pairs computed for that FlowFile by the given {@code updater}.
+     * <p>
+     * The {@code updater} is invoked once per FlowFile and returns the attributes to add or modify for that FlowFile.
+     * It may return {@code null} or an empty map, in which case the FlowFile is left unchanged.
+     * If a returned map contains a key named {@code uuid}, this attribute will be ignored.
+     * Calling this method is equivalent to calling {@link #putAllAttributes(FlowFile, Map)} for each of the given FlowFiles,
+     * but allows implementations to apply the changes to all FlowFiles in a single pass over the session's records.
+     *
+     * @param flowFiles to update
+     * @param updater function that computes the attributes to add or modify for each {@link FlowFile}
+     * @return the updated {@link FlowFile}s, in the iteration order of the given {@code flowFiles}
+     * @throws IllegalStateException if detected that this method is being called from within a read or write callback
+     *              (see {@link #read(FlowFile, InputStreamCallback)}, {@link #write(FlowFile, StreamCallback)},
+     *              {@link #write(FlowFile, OutputStreamCallback)}) or while a read or write stream is open
+     *              (see {@link #read(FlowFile)}, {@link #write(FlowFile)}) for any of the {@code flowFiles} {@link FlowFile}s
+     * @throws FlowFileHandlingException if any of the given {@link FlowFile}s is already transferred or removed or doesn't belong to this session.
+     *              Automatic rollback will occur.
+     */
+    default List<FlowFile> putAllAttributes(Collection<FlowFile> flowFiles, Function<FlowFile, Map<String, String>> updater) {
+        final List<FlowFile> updated = new ArrayList<>(flowFiles.size());
+        for (final FlowFile flowFile : flowFiles) {
+            final Map<String, String> attributes = updater.apply(flowFile);
+            if (attributes == null || attributes.isEmpty()) {
+                updated.add(flowFile);
+            } else {
+                updated.add(putAllAttributes(flowFile, attributes));
+            }
+        }
+        return updated;
+    }
+
     /**
      * Removes the attribute with the given {@code key} from the given {@link FlowFile}.
      * <p>
@@ -476,6 +635,31 @@ public interface ProcessSession {
      */
     FlowFile removeAllAttributes(FlowFile flowFile, Set<String> keys);
 
+    /**
+     * Removes the attributes with the given {@code keys} from each of the given {@link FlowFile}s.
+     * <p>
+     * The attributes with the keys {@code uuid}, {@code path}, and {@code filename} will not be removed.
+     * Calling this method is equivalent to calling {@link #removeAllAttributes(FlowFile, Set)} for each of the given FlowFiles,
+     * but allows implementations to apply the changes to all FlowFiles in a single pass over the session's records.
+     *
+     * @param flowFiles to update
+     * @param keys of attributes to remove
+     * @return the updated {@link FlowFile}s with the matching attributes removed, in the iteration order of the given {@code flowFiles}
+     * @throws IllegalStateException if detected that this method is being called from within a read or write callback
+     *              (see {@link #read(FlowFile, InputStreamCallback)}, {@link #write(FlowFile, StreamCallback)},
+     *              {@link #write(FlowFile, OutputStreamCallback)}) or while a read or write stream is open
+     *              (see {@link #read(FlowFile)}, {@link #write(FlowFile)}) for any of the {@code flowFiles} {@link FlowFile}s
+     * @throws FlowFileHandlingException if any of the given {@link FlowFile}s is already transferred or removed or doesn't belong to this session.
+     *              Automatic rollback will occur.
+     */
+    default List<FlowFile> removeAllAttributes(Collection<FlowFile> flowFiles, Set<String> keys) {
+        final List<FlowFile> updated = new ArrayList<>(flowFiles.size());
+        for (final FlowFile flowFile : flowFiles) {
+            updated.add(removeAllAttributes(flowFile, keys));
+        }
+        return updated;
+    }
+
     /**
      * Removes all attributes from the given {@link FlowFile} whose key matches the given pattern.
      * <p>
@@ -647,6 +831,163 @@ public interface ProcessSession {
      */
     InputStream read(FlowFile flowFile);
 
+    /**
+     * Executes the given {@code reader} {@link ReadableByteChannelCallback} against the content of the given {@link FlowFile}.
+     * <p>
+     * This method allows implementations to expose the content through a channel that is backed directly by the content repository,
+     * so that callers may use direct buffers or {@link java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)}
+     * rather than copying the content through heap buffers.
+     * The default implementation adapts the {@link InputStream} provided by {@link #read(FlowFile, InputStreamCallback)}.
+     *
+     * @param source the {@link FlowFile} to retrieve the content from
+     * @param reader {@link ReadableByteChannelCallback} that will be called to read the {@link FlowFile} content
+     * @throws IllegalStateException if detected that this method is being called from within a write callback
+     *              (see {@link #write(FlowFile, StreamCallback)}, {@link #write(FlowFile, OutputStreamCallback)})
+     *              or while a write stream is open (see {@link #write(FlowFile)}) for the given {@code source} {@link FlowFile}.
+     *              Said another way, it is not permissible to call this method while writing to the same FlowFile.
+     * @throws FlowFileHandlingException if the given {@link FlowFile} is already transferred or removed or doesn't belong to this session.
+     *              Automatic rollback will occur.
+     * @throws MissingFlowFileException if the given {@link FlowFile} content cannot be found.
+     *              The FlowFile should no longer be referenced, will be internally destroyed. The session is automatically rolled back.
+     * @throws FlowFileAccessException if some IO problem occurs accessing {@link FlowFile} content;
+     *              if an attempt is made to access the {@link ReadableByteChannel} provided to the given {@link ReadableByteChannelCallback}
+     *              after this method completed its execution
+     */
+    default void readChannel(FlowFile source, ReadableByteChannelCallback reader) throws FlowFileAccessException {
+        read(source, in -> reader.process(Channels.newChannel(in)));
+    }
+
+    /**
+     * Provides a read-only {@link ByteBuffer} view over the content of the given {@link FlowFile}, positioned at the start of the content
+     * and with a limit equal to the size of the content.
+     * <p>
+     * This method is intended for processors that require random access to the content, such as parsers of fixed-width binary formats.
+     * Implementations are encouraged to return a buffer that is memory-mapped from the content repository
+     * so that the content is neither copied nor retained on the heap.
+     * When the underlying repository cannot map the content, implementations may fall back to returning a buffer that holds a copy of the content.
+     * The default implementation reads the content into a heap buffer by means of {@link #read(FlowFile, InputStreamCallback)}.
+     * <p>
+     * The returned buffer must not be accessed after the session is committed or rolled back,
+     * or after the content of the {@link FlowFile} is modified, as the underlying content may no longer be available.
+     *
+     * @param flowFile the {@link FlowFile} to retrieve the content from
+     * @return a read-only {@link ByteBuffer} containing the content of the {@link FlowFile}
+     * @throws IllegalArgumentException if the size of the {@link FlowFile} content exceeds {@link Integer#MAX_VALUE} bytes
+     * @throws IllegalStateException if detected that this method is being called from within a write callback
+     *              (see {@link #write(FlowFile, StreamCallback)}, {@link #write(FlowFile, OutputStreamCallback)})
+     *              or while a write stream is open (see {@link #write(FlowFile)}) for the given {@code flowFile} {@link FlowFile}.
+     *              Said another way, it is not permissible to call this method while writing to the same FlowFile.
+     * @throws FlowFileHandlingException if the given {@link FlowFile} is already transferred or removed or doesn't belong to this session.
+     *              Automatic rollback will occur.
+     * @throws MissingFlowFileException if the given {@link FlowFile} content cannot be found.
+     *              The FlowFile should no longer be referenced, will be internally destroyed. The session is automatically rolled back.
+     * @throws FlowFileAccessException if some IO problem occurs accessing {@link FlowFile} content
+     */
+    default ByteBuffer mapContent(FlowFile flowFile) {
+        final long size = flowFile.getSize();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Content of " + flowFile + " is " + size + " bytes, which exceeds the maximum size of a ByteBuffer");
+        }
+
+        final byte[] content = new byte[(int) size];
+        read(flowFile, in -> {
+            final int bytesRead = in.readNBytes(content, 0, content.length);
+            if (bytesRead < content.length) {
+                throw new EOFException("Expected " + content.length + " bytes of content for " + flowFile + " but only " + bytesRead + " bytes were available");
+            }
+        });
+        return ByteBuffer.wrap(content).asReadOnlyBuffer();
+    }
+
+    /**
+     * Executes the given {@code reader} {@link InputStreamCallback} against a range of the content of the given {@link FlowFile}.
+     * The {@link InputStream} provided to the callback starts at the given {@code offset} into the content
+     * and reaches end of stream after {@code length} bytes.
+     * <p>
+     * Unlike reading a range by way of {@link #clone(FlowFile, long, long)}, this method does not create a new {@link FlowFile}
+     * and does not generate any Provenance Event.
+     * Implementations are encouraged to seek directly to the requested offset in the content rather than reading and discarding the preceding bytes,
+     * as the default implementation does.
+     *
+     * @param source the {@link FlowFile} to retrieve the content from
+     * @param offset the number of bytes into the {@link FlowFile} content at which to start reading
+     * @param length the maximum number of bytes to make available to the {@code reader}
+     * @param reader {@link InputStreamCallback} that will be called to read the requested range of the {@link FlowFile} content
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative,
+     *              or if {@code offset} + {@code length} exceeds the size of the {@code source} FlowFile's content
+     * @throws IllegalStateException if detected that this method is being called from within a write callback
+     *              (see {@link #write(FlowFile, StreamCallback)}, {@link #write(FlowFile, OutputStreamCallback)})
+     *              or while a write stream is open (see {@link #write(FlowFile)}) for the given {@code source} {@link FlowFile}.
+     *              Said another way, it is not permissible to call this method while writing to the same FlowFile.
+     * @throws FlowFileHandlingException if the given {@link FlowFile} is already transferred or removed or doesn't belong to this session.
+     *              Automatic rollback will occur.
+     * @throws MissingFlowFileException if the given {@link FlowFile} content cannot be found.
+     *              The FlowFile should no longer be referenced, will be internally destroyed. The session is automatically rolled back.
+     * @throws FlowFileAccessException if some IO problem occurs accessing {@link FlowFile} content;
+     *              if an attempt is made to access the {@link InputStream} provided to the given {@link InputStreamCallback}
+     *              after this method completed its execution
+     */
+    default void read(FlowFile source, long offset, long length, InputStreamCallback reader) throws FlowFileAccessException {
+        validateRange(source, offset, length);
+        read(source, in -> {
+            in.skipNBytes(offset);
+            reader.process(new RangedInputStream(in, length));
+        });
+    }
+
+    /**
+     * Provides an {@link InputStream} that can be used to read a range of the content of the given {@link FlowFile}.
+     * The returned InputStream starts at the given {@code offset} into the content and reaches end of stream after {@code length} bytes.
+     * <p>
+     * As with {@link #read(FlowFile)}, the caller is responsible for ensuring that the InputStream is closed appropriately.
+     * Unlike reading a range by way of {@link #clone(FlowFile, long, long)}, this method does not create a new {@link FlowFile}
+     * and does not generate any Provenance Event.
+     *
+     * @param flowFile the {@link FlowFile} to retrieve the content from
+     * @param offset the number of bytes into the {@link FlowFile} content at which to start reading
+     * @param length the maximum number of bytes to make available from the returned {@link InputStream}
+     * @return an {@link InputStream} that can be used to read the requested range of the {@link FlowFile} content
+     * @throws IllegalArgumentException if {@code offset} or {@code length} is negative,
+     *              or if {@code offset} + {@code length} exceeds the size of the {@code flowFile} FlowFile's content
+     * @throws IllegalStateException if detected that this method is being called from within a write callback
+     *              (see {@link #write(FlowFile, StreamCallback)}, {@link #write(FlowFile, OutputStreamCallback)})
+     *              or while a write stream is open (see {@link #write(FlowFile)}) for the given {@code flowFile} {@link FlowFile}.
+     *              Said another way, it is not permissible to call this method while writing to the same FlowFile.
+     * @throws FlowFileHandlingException if the given {@link FlowFile} is already transferred or removed or doesn't belong to this session.
+     *              Automatic rollback will occur.
+     * @throws MissingFlowFileException if the given {@link FlowFile} content cannot be found.
+     *              The FlowFile should no longer be referenced, will be internally destroyed. The session is automatically rolled back.
+     * @throws FlowFileAccessException if some IO problem occurs accessing {@link FlowFile} content;
+     *              if an attempt is made to read from the stream after the session is committed or rolled back.
+     */
+    default InputStream read(FlowFile flowFile, long offset, long length) {
+        validateRange(flowFile, offset, length);
+        final InputStream in = read(flowFile);
+        try {
+            in.skipNBytes(offset);
+        } catch (final IOException e) {
+            try {
+                in.close();
+            } catch (final IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw new FlowFileAccessException("Failed to skip to offset " + offset + " of " + flowFile, e);
+        }
+        return new RangedInputStream(in, length);
+    }
+
+    private static void validateRange(final FlowFile flowFile, final long offset, final long length) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must be non-negative but was " + offset);
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must be non-negative but was " + length);
+        }
+        if (length > flowFile.getSize() - offset) {
+            throw new IllegalArgumentException("Range [offset=" + offset + ", length=" + length + "] exceeds the size of " + flowFile + " (" + flowFile.getSize() + " bytes)");
+        }
+    }
+
     /**
      * Combines the content of all given {@code sources} {@link FlowFile}s into a single given destination FlowFile.
      *
@@ -753,6 +1094,33 @@ public interface ProcessSession {
      */
     FlowFile write(FlowFile source, StreamCallback writer) throws FlowFileAccessException;
 
+    /**
+     * Executes the given {@code writer} {@link WritableByteChannelCallback} against the content of the given {@link FlowFile}.
+     * <p>
+     * This method allows implementations to expose the content through a channel that is backed directly by the content repository,
+     * so that callers may use direct buffers or {@link java.nio.channels.FileChannel#transferFrom(ReadableByteChannel, long, long)}
+     * rather than copying the content through heap buffers.
+     * The default implementation adapts the {@link OutputStream} provided by {@link #write(FlowFile, OutputStreamCallback)}.
+     *
+     * @param source the {@link FlowFile} to write the content of
+     * @param writer {@link WritableByteChannelCallback} that will be called to write the {@link FlowFile} content
+     * @return the updated {@code source} {@link FlowFile} with changed content
+     * @throws IllegalStateException if detected that this method is being called from within a read or write callback
+     *              (see {@link #read(FlowFile, InputStreamCallback)}, {@link #write(FlowFile, StreamCallback)},
+     *              {@link #write(FlowFile, OutputStreamCallback)}) or while a read or write stream is open
+     *              (see {@link #read(FlowFile)}, {@link #write(FlowFile)}) for the given {@code source} {@link FlowFile}
+     * @throws FlowFileHandlingException if the given {@link FlowFile} is already transferred or removed or doesn't belong to this session.
+     *              Automatic rollback will occur.
+     * @throws MissingFlowFileException if the given {@link FlowFile} content cannot be found.
+     *              The FlowFile should no longer be referenced, will be internally destroyed. The session is automatically rolled back.
+     * @throws FlowFileAccessException if some IO problem occurs accessing {@link FlowFile} content;
+     *              if an attempt is made to access the {@link WritableByteChannel} provided to the given {@link WritableByteChannelCallback}
+     *              after this method completed its execution
+     */
+    default FlowFile writeChannel(FlowFile source, WritableByteChannelCallback writer) throws FlowFileAccessException {
+        return write(source, out -> writer.process(Channels.newChannel(out)));
+    }
+
     /**
      * Executes the given {code writer} {@link OutputStreamCallback} against the content of the given {@link FlowFile},
      * such that any data written to the OutputStream will be appended to the end of FlowFile's content.
@@ -816,6 +1184,31 @@ public interface ProcessSession {
      */
     FlowFile importFrom(InputStream source, FlowFile destination);
 
+    /**
+     * Writes to contents of the {@code source} {@link ReadableByteChannel} to the given {@link FlowFile}'s content.
+     * <p>
+     * When the source is a {@link java.nio.channels.FileChannel}, implementations may transfer the bytes
+     * directly into the content repository without copying them through heap buffers.
+     * The source channel is read until end of stream but is not closed by this method.
+     * The default implementation adapts the channel to an {@link InputStream} and delegates to {@link #importFrom(InputStream, FlowFile)}.
+     *
+     * @param source the {@link ReadableByteChannel} from which content will be obtained
+     * @param destination the {@link FlowFile} whose content will be updated
+     * @return the updated {@code destination} {@link FlowFile} with changed content
+     * @throws IllegalStateException if detected that this method is being called from within a read or write callback
+     *              (see {@link #read(FlowFile, InputStreamCallback)}, {@link #write(FlowFile, StreamCallback)},
+     *              {@link #write(FlowFile, OutputStreamCallback)}) or while a read or write stream is open
+     *              (see {@link #read(FlowFile)}, {@link #write(FlowFile)}) for the given {@code destination} {@link FlowFile}
+     * @throws FlowFileHandlingException if the given {@link FlowFile} is already transferred or removed or doesn't belong to this session.
+     *              Automatic rollback will occur.
+     * @throws MissingFlowFileException if the given {@link FlowFile} content cannot be found.
+     *              The FlowFile should no longer be referenced, will be internally destroyed. The session is automatically rolled back.
+     * @throws FlowFileAccessException if some IO problem occurs accessing {@link FlowFile} content
+     */
+    default FlowFile importFrom(ReadableByteChannel source, FlowFile destination) {
+        return importFrom(Channels.newInputStream(source), destination);
+    }
+
     /**
      * Writes the content of the given {@link FlowFile} to the file at the given {@code destination} {@link Path}.
      *
@@ -852,6 +1245,95 @@ public interface ProcessSession {
      */
     void exportTo(FlowFile flowFile, OutputStream destination);
 
+    /**
+     * Writes the content of the given {@link FlowFile} to given {@code destination} {@link WritableByteChannel}.
+     * <p>
+     * When the destination is a {@link java.nio.channels.FileChannel} or a {@link java.nio.channels.SocketChannel},
+     * implementations may transfer the bytes directly from the content repository without copying them through heap buffers.
+     * The destination channel is not closed by this method.
+     * The default implementation adapts the channel to an {@link OutputStream} and delegates to {@link #exportTo(FlowFile, OutputStream)}.
+     *
+     * @param flowFile the {@link FlowFile} to export the content of
+     * @param destination the {@link WritableByteChannel} to export the {@link FlowFile}'s content to
+     * @throws IllegalStateException if detected that this method is being called from within a read or write callback
+     *              (see {@link #read(FlowFile, InputStreamCallback)}, {@link #write(FlowFile, StreamCallback)},
+     *              {@link #write(FlowFile, OutputStreamCallback)}) or while a read or write stream is open
+     *              (see {@link #read(FlowFile)}, {@link #write(FlowFile)}) for the given {@code flowFile} {@link FlowFile}
+     * @throws FlowFileHandlingException if the given {@link FlowFile} is already transferred or removed or doesn't belong to this session.
+     *              Automatic rollback will occur.
+     * @throws MissingFlowFileException if the given {@link FlowFile} content cannot be found.
+     *              The FlowFile should no longer be referenced, will be internally destroyed. The session is automatically rolled back.
+     * @throws FlowFileAccessException if some IO problem occurs accessing {@link FlowFile} content
+     */
+    default void exportTo(FlowFile flowFile, WritableByteChannel destination) {
+        exportTo(flowFile, Channels.newOutputStream(destination));
+    }
+
+    /**
+     * Asynchronously executes the given {@code reader} {@link InputStreamCallback} against the content of the given {@link FlowFile}.
+     * <p>
+     * Implementations may perform the I/O on another thread, such as a virtual thread, so that the calling thread is not blocked
+     * while the content is transferred. Until the returned future completes, the session must not be committed, rolled back or migrated,
+     * and the given {@link FlowFile} must not be otherwise accessed.
+     * If the operation fails, the returned future completes exceptionally with the exception that {@link #read(FlowFile, InputStreamCallback)} would have thrown.
+     * The default implementation performs the operation synchronously on the calling thread and returns a completed future.
+     *
+     * @param source the {@link FlowFile} to retrieve the content from
+     * @param reader {@link InputStreamCallback} that will be called to read the {@link FlowFile} content
+     * @return a {@link CompletableFuture} that completes when the content has been read
+     */
+    default CompletableFuture<Void> readAsync(FlowFile source, InputStreamCallback reader) {
+        try {
+            read(source, reader);
+            return CompletableFuture.completedFuture(null);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Asynchronously executes the given {@code writer} {@link OutputStreamCallback} against the content of the given {@link FlowFile}.
+     * <p>
+     * Implementations may perform the I/O on another thread, such as a virtual thread, so that the calling thread is not blocked
+     * while the content is transferred. Until the returned future completes, the session must not be committed, rolled back or migrated,
+     * and the given {@link FlowFile} must not be otherwise accessed.
+     * If the operation fails, the returned future completes exceptionally with the exception that {@link #write(FlowFile, OutputStreamCallback)} would have thrown.
+     * The default implementation performs the operation synchronously on the calling thread and returns a completed future.
+     *
+     * @param source the {@link FlowFile} to write the content of
+     * @param writer {@link OutputStreamCallback} that will be called to write the {@link FlowFile} content
+     * @return a {@link CompletableFuture} that completes with the updated {@code source} {@link FlowFile} when the content has been written
+     */
+    default CompletableFuture<FlowFile> writeAsync(FlowFile source, OutputStreamCallback writer) {
+        try {
+            return CompletableFuture.completedFuture(write(source, writer));
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Asynchronously writes the content of the given {@link FlowFile} to given {@code destination} {@link OutputStream}.
+     * <p>
+     * Implementations may perform the I/O on another thread, such as a virtual thread, so that the calling thread is not blocked
+     * while the content is transferred. Until the returned future completes, the session must not be committed, rolled back or migrated,
+     * and the given {@link FlowFile} must not be otherwise accessed.
+     * If the operation fails, the returned future completes exceptionally with the exception that {@link #exportTo(FlowFile, OutputStream)} would have thrown.
+     * The default implementation performs the operation synchronously on the calling thread and returns a completed future.
+     *
+     * @param flowFile the {@link FlowFile} to export the content of
+     * @param destination the {@link OutputStream} to export the {@link FlowFile}'s content to
+     * @return a {@link CompletableFuture} that completes when the content has been exported
+     */
+    default CompletableFuture<Void> exportToAsync(FlowFile flowFile, OutputStream destination) {
+        try {
+            exportTo(flowFile, destination);
+            return CompletableFuture.completedFuture(null);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Returns the {@link ProvenanceReporter} that is tied to {@code this} {@link ProcessSession}.
      *
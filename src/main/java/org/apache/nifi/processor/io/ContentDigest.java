@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processor.io;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * Computes one or more digests of FlowFile content while it is being written, so that the content does not need to be read again
+ * in order to be hashed. A ContentDigest wraps an {@link OutputStreamCallback} or {@link StreamCallback} that is then passed to the
+ * {@code write} or {@code append} methods of {@link org.apache.nifi.processor.ProcessSession}; every byte written by the wrapped callback
+ * is added to each of the digests, and the results are available once the session method returns.
+ * <p>
+ * Content imported by means of {@link org.apache.nifi.processor.ProcessSession#importFrom(InputStream, org.apache.nifi.flowfile.FlowFile)}
+ * is digested by wrapping the source stream with {@link #wrap(InputStream)}; the results are available once the stream has been read
+ * to its end, which the session does before {@code importFrom} returns.
+ * <p>
+ * The digests cover only the bytes that pass through the wrapped callback or stream. When a wrapped callback is passed to
+ * {@code append}, the results are therefore the digests of the appended bytes only, not of the complete content of the FlowFile.
+ * <p>
+ * Any algorithm supported by {@link MessageDigest}, such as {@code SHA-256}, may be used, as well as the checksum algorithms
+ * {@value #CRC32}, {@value #CRC32C} and {@value #ADLER32}, whose values are reported as 4-byte big-endian arrays.
+ * <p>
+ * Each call to a wrapped callback, and each wrapped stream, starts the digests over and clears the previous results,
+ * so the results always reflect the most recent write and are not available if that write failed.
+ * Instances of this class are not thread-safe.
+ */
+public final class ContentDigest {
+
+    public static final String CRC32 = "CRC32";
+    public static final String CRC32C = "CRC32C";
+    public static final String ADLER32 = "ADLER32";
+
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+    private final List<String> algorithms;
+    private final Map<String, byte[]> digests = new LinkedHashMap<>();
+
+    private ContentDigest(final List<String> algorithms) {
+        this.algorithms = algorithms;
+    }
+
+    /**
+     * Creates a ContentDigest that computes the given algorithms.
+     *
+     * @param algorithms the names of the algorithms to compute
+     * @return a ContentDigest that computes the given algorithms
+     * @throws IllegalArgumentException if no algorithm is given or if any of the algorithms is not supported
+     */
+    public static ContentDigest of(final String... algorithms) {
+        if (algorithms == null || algorithms.length == 0) {
+            throw new IllegalArgumentException("At least one digest algorithm is required");
+        }
+
+        final List<String> validated = new ArrayList<>(algorithms.length);
+        for (final String algorithm : algorithms) {
+            createUpdater(algorithm);
+            validated.add(algorithm);
+        }
+        return new ContentDigest(Collections.unmodifiableList(validated));
+    }
+
+    /**
+     * Wraps the given callback so that all bytes written by it are digested.
+     *
+     * @param callback the callback that writes the content
+     * @return a callback that writes the content by means of the given callback while computing the digests
+     */
+    public OutputStreamCallback wrap(final OutputStreamCallback callback) {
+        return out -> {
+            digests.clear();
+            final DigestOutputStream digestOut = new DigestOutputStream(out);
+            callback.process(digestOut);
+            complete(digestOut.updaters);
+        };
+    }
+
+    /**
+     * Wraps the given callback so that all bytes written by it are digested.
+     *
+     * @param callback the callback that reads and writes the content
+     * @return a callback that reads and writes the content by means of the given callback while computing the digests of the written bytes
+     */
+    public StreamCallback wrap(final StreamCallback callback) {
+        return (in, out) -> {
+            digests.clear();
+            final DigestOutputStream digestOut = new DigestOutputStream(out);
+            callback.process(in, digestOut);
+            complete(digestOut.updaters);
+        };
+    }
+
+    /**
+     * Wraps the given stream so that all bytes read from it are digested. The results are available once the returned stream
+     * has been read to its end; bytes that are skipped are read and digested as well.
+     *
+     * @param in the stream that provides the content, such as the source of an {@code importFrom} operation
+     * @return a stream that reads the content from the given stream while computing the digests
+     */
+    public InputStream wrap(final InputStream in) {
+        digests.clear();
+        return new DigestInputStream(in);
+    }
+
+    /**
+     * @return the names of the algorithms computed by this ContentDigest, in the order in which they were given
+     */
+    public List<String> getAlgorithms() {
+        return algorithms;
+    }
+
+    /**
+     * @param algorithm the name of the algorithm
+     * @return the digest computed for the given algorithm by the most recent write, or {@code null} if no write has completed
+     *          or if the algorithm is not computed by this ContentDigest
+     */
+    public byte[] getDigest(final String algorithm) {
+        final byte[] digest = digests.get(algorithm);
+        return digest == null ? null : digest.clone();
+    }
+
+    /**
+     * @param algorithm the name of the algorithm
+     * @return the lower-case hexadecimal representation of the digest computed for the given algorithm by the most recent write,
+     *          or {@code null} if no write has completed or if the algorithm is not computed by this ContentDigest
+     */
+    public String getHexDigest(final String algorithm) {
+        final byte[] digest = digests.get(algorithm);
+        return digest == null ? null : HEX_FORMAT.formatHex(digest);
+    }
+
+    /**
+     * Returns the hexadecimal digests computed by the most recent write as FlowFile attributes, keyed by the given prefix followed by
+     * a period and the lower-case algorithm name; for example {@code content.sha-256} for the prefix {@code content}.
+     *
+     * @param attributePrefix the prefix of the attribute names
+     * @return the digests keyed by attribute name, or an empty map if no write has completed
+     */
+    public Map<String, String> toAttributes(final String attributePrefix) {
+        final Map<String, String> attributes = new LinkedHashMap<>();
+        for (final Map.Entry<String, byte[]> entry : digests.entrySet()) {
+            attributes.put(attributePrefix + "." + entry.getKey().toLowerCase(Locale.ROOT), HEX_FORMAT.formatHex(entry.getValue()));
+        }
+        return attributes;
+    }
+
+    private List<DigestUpdater> createUpdaters() {
+        final List<DigestUpdater> updaters = new ArrayList<>(algorithms.size());
+        for (final String algorithm : algorithms) {
+            updaters.add(createUpdater(algorithm));
+        }
+        return updaters;
+    }
+
+    private void complete(final List<DigestUpdater> updaters) {
+        digests.clear();
+        for (int i = 0; i < algorithms.size(); i++) {
+            digests.put(algorithms.get(i), updaters.get(i).complete());
+        }
+    }
+
+    private static DigestUpdater createUpdater(final String algorithm) {
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Digest algorithm is required");
+        }
+
+        return switch (algorithm.toUpperCase(Locale.ROOT)) {
+            case CRC32 -> new ChecksumUpdater(CRC32::new);
+            case CRC32C -> new ChecksumUpdater(CRC32C::new);
+            case ADLER32 -> new ChecksumUpdater(Adler32::new);
+            default -> new MessageDigestUpdater(algorithm);
+        };
+    }
+
+    private interface DigestUpdater {
+
+        void update(byte[] bytes, int offset, int length);
+
+        byte[] complete();
+    }
+
+    private static final class ChecksumUpdater implements DigestUpdater {
+        private final Checksum checksum;
+
+        ChecksumUpdater(final Supplier<Checksum> checksumSupplier) {
+            this.checksum = checksumSupplier.get();
+        }
+
+        @Override
+        public void update(final byte[] bytes, final int offset, final int length) {
+            checksum.update(bytes, offset, length);
+        }
+
+        @Override
+        public byte[] complete() {
+            final long value = checksum.getValue();
+            return new byte[] {(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+        }
+    }
+
+    // Each updater belongs to a single DigestOutputStream and is never shared between threads
+    @SuppressWarnings("PMD.AvoidMessageDigestField")
+    private static final class MessageDigestUpdater implements DigestUpdater {
+        private final MessageDigest messageDigest;
+
+        MessageDigestUpdater(final String algorithm) {
+            try {
+                messageDigest = MessageDigest.getInstance(algorithm);
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalArgumentException("Digest algorithm [" + algorithm + "] is not supported", e);
+            }
+        }
+
+        @Override
+        public void update(final byte[] bytes, final int offset, final int length) {
+            messageDigest.update(bytes, offset, length);
+        }
+
+        @Override
+        public byte[] complete() {
+            return messageDigest.digest();
+        }
+    }
+
+    private final class DigestOutputStream extends FilterOutputStream {
+        private final List<DigestUpdater> updaters = createUpdaters();
+        private final byte[] singleByte = new byte[1];
+
+        DigestOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            singleByte[0] = (byte) b;
+            for (final DigestUpdater updater : updaters) {
+                updater.update(singleByte, 0, 1);
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            for (final DigestUpdater updater : updaters) {
+                updater.update(b, off, len);
+            }
+        }
+    }
+
+    private final class DigestInputStream extends FilterInputStream {
+        private static final int SKIP_BUFFER_SIZE = 8192;
+
+        private final List<DigestUpdater> updaters = createUpdaters();
+        private final byte[] singleByte = new byte[1];
+        private boolean completed;
+
+        DigestInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = in.read();
+            if (b < 0) {
+                completeOnce();
+            } else {
+                singleByte[0] = (byte) b;
+                for (final DigestUpdater updater : updaters) {
+                    updater.update(singleByte, 0, 1);
+                }
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int bytesRead = in.read(b, off, len);
+            if (bytesRead < 0) {
+                completeOnce();
+            } else {
+                for (final DigestUpdater updater : updaters) {
+                    updater.update(b, off, bytesRead);
+                }
+            }
+            return bytesRead;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final byte[] buffer = new byte[(int) Math.min(SKIP_BUFFER_SIZE, Math.max(n, 1))];
+            long skipped = 0;
+            while (skipped < n) {
+                final int bytesRead = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (bytesRead < 0) {
+                    break;
+                }
+                skipped += bytesRead;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public synchronized void mark(final int readlimit) {
+            // mark is not supported, as bytes read again after a reset would be digested twice
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            throw new IOException("Mark and reset are not supported");
+        }
+
+        private void completeOnce() {
+            if (!completed) {
+                completed = true;
+                complete(updaters);
+            }
+        }
+    }
+}
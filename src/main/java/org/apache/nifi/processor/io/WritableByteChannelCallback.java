@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processor.io;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+public interface WritableByteChannelCallback {
+
+    /**
+     * Provides a managed writable channel for use. The channel is
+     * automatically opened and closed though it is ok to close the channel
+     * manually. Implementations of the session may provide a channel that
+     * is backed directly by the content repository, such as a
+     * {@link java.nio.channels.FileChannel}, so that callers can make use of
+     * direct buffers and zero-copy transfers.
+     *
+     * @param channel the channel to write bytes to
+     * @throws IOException if issues writing to the underlying channel
+     */
+    void process(WritableByteChannel channel) throws IOException;
+
+}
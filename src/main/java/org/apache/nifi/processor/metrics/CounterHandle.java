@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processor.metrics;
+
+/**
+ * A reference to a named counter that is obtained once, typically when a Processor is scheduled,
+ * and then used to adjust the counter without resolving it by name on every adjustment.
+ * Framework implementations may resolve the counter to an internal slot when the handle is created.
+ *
+ * @see org.apache.nifi.processor.ProcessContext#getCounterHandle(String)
+ * @see org.apache.nifi.processor.ProcessSession#adjustCounter(CounterHandle, long, CommitTiming)
+ */
+public interface CounterHandle {
+
+    /**
+     * @return the name of the counter
+     */
+    String getName();
+}
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.provenance;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A compact representation of the FlowFile attributes associated with a Provenance Event. Rather than holding
+ * full copies of the attributes before and after the event, an AttributeDelta holds a reference to an immutable
+ * base map of the attributes that existed before the event, which may be shared by many events, along with only
+ * the attributes that were added, updated or removed as a result of the event. Attributes that were removed are
+ * represented in the updated attributes by a <code>null</code> value, consistent with
+ * {@link ProvenanceEventBuilder#setAttributes(Map, Map)}.
+ *
+ * <p>
+ * The maps returned by {@link #getPreviousAttributes()}, {@link #getUpdatedAttributes()} and {@link #getAttributes()}
+ * are unmodifiable views; in particular, the current attributes are never materialized into a new map.
+ * Callers must not modify the base map after creating an AttributeDelta from it. Instances are immutable and may be
+ * shared between threads.
+ * </p>
+ */
+public final class AttributeDelta {
+
+    /**
+     * A delta with no previous attributes and no updates
+     */
+    public static final AttributeDelta EMPTY = new AttributeDelta(Collections.emptyMap(), Collections.emptyMap());
+
+    private final Map<String, String> previousAttributes;
+    private final Map<String, String> updatedAttributes;
+    private final Map<String, String> attributes;
+
+    private AttributeDelta(final Map<String, String> previousAttributes, final Map<String, String> updatedAttributes) {
+        this.previousAttributes = previousAttributes;
+        this.updatedAttributes = updatedAttributes;
+        this.attributes = updatedAttributes.isEmpty() ? previousAttributes : new MergedAttributes();
+    }
+
+    /**
+     * Creates a delta from the given base attributes and the attributes that changed. The base map is referenced rather than copied.
+     *
+     * @param previousAttributes the attributes that existed before the event; not copied, so must not be modified afterward
+     * @param updatedAttributes the attributes that were added or updated, with a <code>null</code> value denoting a removed attribute
+     * @return the delta
+     */
+    public static AttributeDelta of(final Map<String, String> previousAttributes, final Map<String, String> updatedAttributes) {
+        Objects.requireNonNull(previousAttributes, "Previous Attributes are required");
+        Objects.requireNonNull(updatedAttributes, "Updated Attributes are required");
+
+        final Map<String, String> previous = Collections.unmodifiableMap(previousAttributes);
+        final Map<String, String> updated = updatedAttributes.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(updatedAttributes));
+        return new AttributeDelta(previous, updated);
+    }
+
+    /**
+     * Creates a delta by comparing the attributes before and after an event. Only the entries that differ are stored;
+     * the previous attributes are referenced rather than copied.
+     *
+     * @param previousAttributes the attributes that existed before the event; not copied, so must not be modified afterward
+     * @param currentAttributes the attributes that exist after the event
+     * @return the delta
+     */
+    public static AttributeDelta between(final Map<String, String> previousAttributes, final Map<String, String> currentAttributes) {
+        Objects.requireNonNull(previousAttributes, "Previous Attributes are required");
+        Objects.requireNonNull(currentAttributes, "Current Attributes are required");
+
+        final Map<String, String> updated = new HashMap<>();
+        for (final Map.Entry<String, String> entry : currentAttributes.entrySet()) {
+            if (!Objects.equals(entry.getValue(), previousAttributes.get(entry.getKey()))) {
+                updated.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (final String key : previousAttributes.keySet()) {
+            if (!currentAttributes.containsKey(key)) {
+                updated.put(key, null);
+            }
+        }
+
+        return of(previousAttributes, updated);
+    }
+
+    /**
+     * @return an unmodifiable view of the attributes that existed before the event
+     */
+    public Map<String, String> getPreviousAttributes() {
+        return previousAttributes;
+    }
+
+    /**
+     * @return an unmodifiable view of the attributes that were added, updated or removed as a result of the event;
+     * removed attributes have a <code>null</code> value
+     */
+    public Map<String, String> getUpdatedAttributes() {
+        return updatedAttributes;
+    }
+
+    /**
+     * @return an unmodifiable view of the attributes that exist after the event, computed from the previous attributes and the updates
+     */
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Returns the value of the given attribute after the event, without creating a view of all attributes.
+     *
+     * @param attributeName the name of the attribute
+     * @return the value of the attribute after the event, or <code>null</code> if the attribute did not exist after the event
+     */
+    public String getAttribute(final String attributeName) {
+        if (updatedAttributes.containsKey(attributeName)) {
+            return updatedAttributes.get(attributeName);
+        }
+        return previousAttributes.get(attributeName);
+    }
+
+    /**
+     * Creates a new delta for a subsequent event, sharing the same previous attributes and applying the given updates on top of the updates in this delta.
+     *
+     * @param updatedAttributes the attributes that were added or updated by the subsequent event, with a <code>null</code> value denoting a removed attribute
+     * @return the combined delta
+     */
+    public AttributeDelta update(final Map<String, String> updatedAttributes) {
+        if (updatedAttributes.isEmpty()) {
+            return this;
+        }
+
+        final Map<String, String> combined = new HashMap<>(this.updatedAttributes);
+        combined.putAll(updatedAttributes);
+        return new AttributeDelta(previousAttributes, Collections.unmodifiableMap(combined));
+    }
+
+    @Override
+    public String toString() {
+        return "AttributeDelta[previous=" + previousAttributes.size() + " attributes, updated=" + updatedAttributes + "]";
+    }
+
+    private final class MergedAttributes extends AbstractMap<String, String> {
+        private final int size = mergedSize();
+        private final Set<Map.Entry<String, String>> entrySet = new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, String>> iterator() {
+                return new MergedIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+
+        @Override
+        public String get(final Object key) {
+            if (updatedAttributes.containsKey(key)) {
+                return updatedAttributes.get(key);
+            }
+            return previousAttributes.get(key);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Map.Entry<String, String>> entrySet() {
+            return entrySet;
+        }
+
+        private int mergedSize() {
+            int count = previousAttributes.size();
+            for (final Map.Entry<String, String> entry : updatedAttributes.entrySet()) {
+                final boolean existed = previousAttributes.get(entry.getKey()) != null;
+                final boolean exists = entry.getValue() != null;
+                if (existed && !exists) {
+                    count--;
+                } else if (!existed && exists) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    private final class MergedIterator implements Iterator<Map.Entry<String, String>> {
+        private final Iterator<Map.Entry<String, String>> previousIterator = previousAttributes.entrySet().iterator();
+        private final Iterator<Map.Entry<String, String>> updatedIterator = updatedAttributes.entrySet().iterator();
+        private Map.Entry<String, String> next;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && previousIterator.hasNext()) {
+                final Map.Entry<String, String> entry = previousIterator.next();
+                if (!updatedAttributes.containsKey(entry.getKey()) && entry.getValue() != null) {
+                    next = entry;
+                }
+            }
+
+            while (next == null && updatedIterator.hasNext()) {
+                final Map.Entry<String, String> entry = updatedIterator.next();
+                if (entry.getValue() != null) {
+                    next = entry;
+                }
+            }
+
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Map.Entry<String, String> entry = next;
+            next = null;
+            return new AbstractMap.SimpleImmutableEntry<>(entry);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.provenance;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Cursor used by the default implementation of {@link ProvenanceEventRepository#getEventCursor(long, ProvenanceEventFilter)},
+ * which reads events in pages by way of {@link ProvenanceEventRepository#getEvents(long, int)} and evaluates the filter in memory.
+ */
+class PagedProvenanceEventCursor implements ProvenanceEventCursor {
+    static final int PAGE_SIZE = 1000;
+
+    private final ProvenanceEventRepository repository;
+    private final ProvenanceEventFilter filter;
+
+    private long nextEventId;
+    private Iterator<ProvenanceEventRecord> page = List.<ProvenanceEventRecord>of().iterator();
+    private boolean exhausted = false;
+    private ProvenanceEventRecord next;
+
+    PagedProvenanceEventCursor(final ProvenanceEventRepository repository, final long firstEventId, final ProvenanceEventFilter filter) {
+        this.repository = repository;
+        this.nextEventId = firstEventId;
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !exhausted) {
+            if (!page.hasNext()) {
+                fetchPage();
+                continue;
+            }
+
+            final ProvenanceEventRecord event = page.next();
+            nextEventId = Math.max(nextEventId, event.getEventId() + 1);
+            if (filter.matches(event)) {
+                next = event;
+            }
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public ProvenanceEventRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final ProvenanceEventRecord event = next;
+        next = null;
+        return event;
+    }
+
+    @Override
+    public void close() {
+        exhausted = true;
+        next = null;
+    }
+
+    private void fetchPage() {
+        final List<ProvenanceEventRecord> events;
+        try {
+            events = repository.getEvents(nextEventId, PAGE_SIZE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to retrieve Provenance Events starting with ID " + nextEventId, e);
+        }
+
+        if (events.isEmpty()) {
+            exhausted = true;
+        } else {
+            page = events.iterator();
+        }
+    }
+}
@@ -99,6 +99,20 @@ public interface ProvenanceEventBuilder {
      */
     ProvenanceEventBuilder setAttributes(Map<String, String> previousAttributes, Map<String, String> updatedAttributes);
 
+    /**
+     * Sets the attributes that existed on the FlowFile before this event
+     * occurred and any attributes that were added, updated or removed as a
+     * result of this event, as represented by the given delta. Implementations
+     * that store attributes as an {@link AttributeDelta} should override this
+     * method in order to retain the shared previous attributes rather than copying them.
+     *
+     * @param attributeDelta the attributes before the event and the changes made by the event
+     * @return the builder
+     */
+    default ProvenanceEventBuilder setAttributes(final AttributeDelta attributeDelta) {
+        return setAttributes(attributeDelta.getPreviousAttributes(), attributeDelta.getUpdatedAttributes());
+    }
+
     /**
      * Sets the UUID to associate with the FlowFile
      *
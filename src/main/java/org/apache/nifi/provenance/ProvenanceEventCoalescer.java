@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.provenance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Implements the coalescing semantics described by {@link ProvenanceReporter}: within a single session, successive
+ * {@link ProvenanceEventType#ATTRIBUTES_MODIFIED ATTRIBUTES_MODIFIED} and {@link ProvenanceEventType#CONTENT_MODIFIED CONTENT_MODIFIED}
+ * events for the same FlowFile collapse into a single event when the session is committed.
+ *
+ * <p>
+ * The coalesced event is a {@link ProvenanceEventType#CONTENT_MODIFIED CONTENT_MODIFIED} event if any of the collapsed
+ * events was, and an {@link ProvenanceEventType#ATTRIBUTES_MODIFIED ATTRIBUTES_MODIFIED} event otherwise. It carries the
+ * attributes and content claim of the FlowFile before the first collapsed event, the attributes and content claim after
+ * the last one, the time of the last one, the sum of their durations, and their details joined in order. Any other event
+ * that references the FlowFile, such as a {@link ProvenanceEventType#ROUTE ROUTE} or {@link ProvenanceEventType#CLONE CLONE}
+ * event, ends the sequence of events that may be collapsed, so that the events on either side of it are kept apart.
+ * </p>
+ */
+public final class ProvenanceEventCoalescer {
+
+    static final String DETAILS_SEPARATOR = "; ";
+
+    private ProvenanceEventCoalescer() {
+    }
+
+    /**
+     * @param eventType the event type
+     * @return <code>true</code> if events of the given type may be collapsed with other events for the same FlowFile
+     */
+    public static boolean isCoalescable(final ProvenanceEventType eventType) {
+        return eventType == ProvenanceEventType.ATTRIBUTES_MODIFIED || eventType == ProvenanceEventType.CONTENT_MODIFIED;
+    }
+
+    /**
+     * Collapses redundant events in the given list of events, which must be in the order in which they were reported.
+     * Events that are not collapsed retain their relative order; a coalesced event takes the position of the first of the events it replaces.
+     *
+     * @param events the events reported within a session
+     * @param eventBuilderFactory supplies builders used to create the coalesced events
+     * @return the events with redundant events collapsed
+     */
+    public static List<ProvenanceEventRecord> coalesce(final List<ProvenanceEventRecord> events, final Supplier<ProvenanceEventBuilder> eventBuilderFactory) {
+        final List<ProvenanceEventRecord> results = new ArrayList<>(events.size());
+        final Map<String, Integer> coalescableIndexes = new HashMap<>();
+
+        for (final ProvenanceEventRecord event : events) {
+            final String flowFileUuid = event.getFlowFileUuid();
+            if (!isCoalescable(event.getEventType())) {
+                coalescableIndexes.remove(flowFileUuid);
+                for (final String parentUuid : event.getParentUuids()) {
+                    coalescableIndexes.remove(parentUuid);
+                }
+                results.add(event);
+                continue;
+            }
+
+            final Integer index = coalescableIndexes.get(flowFileUuid);
+            if (index == null) {
+                coalescableIndexes.put(flowFileUuid, results.size());
+                results.add(event);
+            } else {
+                results.set(index, coalesce(results.get(index), event, eventBuilderFactory.get()));
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Collapses two events for the same FlowFile into a single event.
+     *
+     * @param earlier the event that was reported first
+     * @param later the event that was reported second
+     * @param builder the builder used to create the coalesced event
+     * @return the coalesced event
+     * @throws IllegalArgumentException if either event is not coalescable or the events are for different FlowFiles
+     */
+    public static ProvenanceEventRecord coalesce(final ProvenanceEventRecord earlier, final ProvenanceEventRecord later, final ProvenanceEventBuilder builder) {
+        if (!isCoalescable(earlier.getEventType()) || !isCoalescable(later.getEventType())) {
+            throw new IllegalArgumentException("Cannot coalesce events of type " + earlier.getEventType() + " and " + later.getEventType());
+        }
+        if (!Objects.equals(earlier.getFlowFileUuid(), later.getFlowFileUuid())) {
+            throw new IllegalArgumentException("Cannot coalesce events for FlowFile " + earlier.getFlowFileUuid() + " and FlowFile " + later.getFlowFileUuid());
+        }
+
+        final boolean contentModified = earlier.getEventType() == ProvenanceEventType.CONTENT_MODIFIED || later.getEventType() == ProvenanceEventType.CONTENT_MODIFIED;
+        final AttributeDelta attributeDelta = earlier.getAttributeDelta().update(later.getUpdatedAttributes());
+        final Long previousFileSize = earlier.getPreviousFileSize();
+
+        return builder.fromEvent(later)
+                .setEventType(contentModified ? ProvenanceEventType.CONTENT_MODIFIED : ProvenanceEventType.ATTRIBUTES_MODIFIED)
+                .setAttributes(attributeDelta)
+                .setPreviousContentClaim(earlier.getPreviousContentClaimContainer(), earlier.getPreviousContentClaimSection(), earlier.getPreviousContentClaimIdentifier(),
+                        earlier.getPreviousContentClaimOffset(), previousFileSize == null ? 0L : previousFileSize)
+                .setEventDuration(combineDurations(earlier.getEventDuration(), later.getEventDuration()))
+                .setDetails(combineDetails(earlier.getDetails(), later.getDetails()))
+                .build();
+    }
+
+    private static long combineDurations(final long first, final long second) {
+        if (first < 0) {
+            return second;
+        }
+        if (second < 0) {
+            return first;
+        }
+        return first + second;
+    }
+
+    private static String combineDetails(final String first, final String second) {
+        if (first == null || first.equals(second)) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        return first + DETAILS_SEPARATOR + second;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.provenance;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * An Iterator over Provenance Events that streams events from the repository, in order of increasing event ID,
+ * rather than materializing them all at once. A cursor holds repository resources and must be closed when no longer needed.
+ * Failures to read from the repository while iterating are reported as {@link java.io.UncheckedIOException}.
+ */
+public interface ProvenanceEventCursor extends Iterator<ProvenanceEventRecord>, Closeable {
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.provenance;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable set of criteria that Provenance Events must match in order to be returned by
+ * {@link ProvenanceEventRepository#getEventCursor(long, ProvenanceEventFilter)}.
+ * Repositories are expected to evaluate as many of the criteria as possible against their indexes,
+ * so that events that do not match are never deserialized. All criteria that are specified must be satisfied;
+ * criteria that are not specified match every event.
+ */
+public final class ProvenanceEventFilter {
+
+    /**
+     * A filter that matches every event
+     */
+    public static final ProvenanceEventFilter ALL = new ProvenanceEventFilter.Builder().build();
+
+    private final Set<String> componentIds;
+    private final Set<ProvenanceEventType> eventTypes;
+    private final long startTime;
+    private final long endTime;
+    private final Map<String, String> attributes;
+
+    private ProvenanceEventFilter(final Builder builder) {
+        this.componentIds = Collections.unmodifiableSet(new HashSet<>(builder.componentIds));
+        this.eventTypes = builder.eventTypes.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(EnumSet.copyOf(builder.eventTypes));
+        this.startTime = builder.startTime;
+        this.endTime = builder.endTime;
+        this.attributes = Collections.unmodifiableMap(new HashMap<>(builder.attributes));
+    }
+
+    /**
+     * @return the identifiers of the components whose events match, or an empty set if events of any component match
+     */
+    public Set<String> getComponentIds() {
+        return componentIds;
+    }
+
+    /**
+     * @return the types of events that match, or an empty set if events of any type match
+     */
+    public Set<ProvenanceEventType> getEventTypes() {
+        return eventTypes;
+    }
+
+    /**
+     * @return the earliest event time, in milliseconds since the epoch, of events that match
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * @return the latest event time, in milliseconds since the epoch, of events that match
+     */
+    public long getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * @return the attribute values that matching events must have, or an empty map if no attribute criteria are specified
+     */
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Evaluates all criteria of this filter against the given event.
+     *
+     * @param event the event to evaluate
+     * @return {@code true} if the event satisfies all criteria of this filter
+     */
+    public boolean matches(final ProvenanceEventRecord event) {
+        if (!eventTypes.isEmpty() && !eventTypes.contains(event.getEventType())) {
+            return false;
+        }
+
+        final long eventTime = event.getEventTime();
+        if (eventTime < startTime || eventTime > endTime) {
+            return false;
+        }
+
+        if (!componentIds.isEmpty() && !componentIds.contains(event.getComponentId())) {
+            return false;
+        }
+
+        for (final Map.Entry<String, String> entry : attributes.entrySet()) {
+            if (!entry.getValue().equals(event.getAttribute(entry.getKey()))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "ProvenanceEventFilter[componentIds=" + componentIds + ", eventTypes=" + eventTypes + ", startTime=" + startTime
+                + ", endTime=" + endTime + ", attributes=" + attributes + "]";
+    }
+
+    public static final class Builder {
+
+        private final Set<String> componentIds = new HashSet<>();
+        private final Set<ProvenanceEventType> eventTypes = EnumSet.noneOf(ProvenanceEventType.class);
+        private final Map<String, String> attributes = new HashMap<>();
+        private long startTime = Long.MIN_VALUE;
+        private long endTime = Long.MAX_VALUE;
+
+        /**
+         * Restricts matching events to those generated by the given components. May be called multiple times, in which case
+         * events generated by any of the given components match.
+         *
+         * @param componentIds the identifiers of the components
+         * @return the builder
+         */
+        public Builder componentIds(final Collection<String> componentIds) {
+            this.componentIds.addAll(componentIds);
+            return this;
+        }
+
+        /**
+         * Restricts matching events to those generated by the given component. May be called multiple times, in which case
+         * events generated by any of the given components match.
+         *
+         * @param componentId the identifier of the component
+         * @return the builder
+         */
+        public Builder componentId(final String componentId) {
+            this.componentIds.add(Objects.requireNonNull(componentId, "Component ID is required"));
+            return this;
+        }
+
+        /**
+         * Restricts matching events to those of the given types. May be called multiple times, in which case
+         * events of any of the given types match.
+         *
+         * @param eventTypes the event types
+         * @return the builder
+         */
+        public Builder eventTypes(final Collection<ProvenanceEventType> eventTypes) {
+            this.eventTypes.addAll(eventTypes);
+            return this;
+        }
+
+        /**
+         * Restricts matching events to those of the given type. May be called multiple times, in which case
+         * events of any of the given types match.
+         *
+         * @param eventType the event type
+         * @return the builder
+         */
+        public Builder eventType(final ProvenanceEventType eventType) {
+            this.eventTypes.add(Objects.requireNonNull(eventType, "Event Type is required"));
+            return this;
+        }
+
+        /**
+         * Restricts matching events to those whose event time is within the given range, inclusive.
+         *
+         * @param startTime the earliest event time, in milliseconds since the epoch
+         * @param endTime the latest event time, in milliseconds since the epoch
+         * @return the builder
+         * @throws IllegalArgumentException if {@code startTime} is after {@code endTime}
+         */
+        public Builder timeRange(final long startTime, final long endTime) {
+            if (startTime > endTime) {
+                throw new IllegalArgumentException("Start Time " + startTime + " must not be after End Time " + endTime);
+            }
+            this.startTime = startTime;
+            this.endTime = endTime;
+            return this;
+        }
+
+        /**
+         * Restricts matching events to those whose FlowFile attribute with the given name has the given value.
+         * May be called multiple times, in which case all attribute criteria must be satisfied.
+         *
+         * @param name the name of the attribute
+         * @param value the value that the attribute must have
+         * @return the builder
+         */
+        public Builder attribute(final String name, final String value) {
+            this.attributes.put(Objects.requireNonNull(name, "Attribute Name is required"), Objects.requireNonNull(value, "Attribute Value is required"));
+            return this;
+        }
+
+        public ProvenanceEventFilter build() {
+            return new ProvenanceEventFilter(this);
+        }
+    }
+}
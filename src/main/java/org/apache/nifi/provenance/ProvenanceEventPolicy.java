@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.provenance;
+
+import org.apache.nifi.flowfile.FlowFile;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * An immutable policy that determines which Provenance Events a component records. A policy allows the events of
+ * a given type to be sampled at a fixed rate, or dropped entirely, before they are registered with the
+ * {@link ProvenanceEventRepository}.
+ * <p>
+ * Only event types that do not form the edges of a FlowFile's lineage may be sampled; these are
+ * {@link ProvenanceEventType#ROUTE ROUTE}, {@link ProvenanceEventType#ATTRIBUTES_MODIFIED ATTRIBUTES_MODIFIED}
+ * and {@link ProvenanceEventType#ADDINFO ADDINFO}. All other event types, including {@link ProvenanceEventType#RECEIVE RECEIVE},
+ * {@link ProvenanceEventType#SEND SEND} and {@link ProvenanceEventType#DROP DROP}, are always recorded.
+ * {@link ProvenanceEventType#CONTENT_MODIFIED CONTENT_MODIFIED} events are always recorded as well, because each one
+ * records a transition between content claims that content lineage and replay depend upon.
+ * <p>
+ * Sampling is deterministic with respect to the FlowFile: for a given event type and rate, either all or none of the
+ * sampled events for a given FlowFile are recorded, so that the retained events describe complete FlowFile histories.
+ */
+public final class ProvenanceEventPolicy {
+
+    /**
+     * A policy that records every event
+     */
+    public static final ProvenanceEventPolicy RECORD_ALL = new ProvenanceEventPolicy.Builder().build();
+
+    private static final Set<ProvenanceEventType> SAMPLEABLE_EVENT_TYPES = EnumSet.of(
+            ProvenanceEventType.ROUTE,
+            ProvenanceEventType.ATTRIBUTES_MODIFIED,
+            ProvenanceEventType.ADDINFO
+    );
+
+    private static final double UNIT_SCALE = 0x1.0p-53;
+
+    private final double[] sampleRates;
+    private final boolean recordingAll;
+
+    private ProvenanceEventPolicy(final Builder builder) {
+        this.sampleRates = builder.sampleRates.clone();
+        this.recordingAll = Arrays.stream(sampleRates).allMatch(rate -> rate >= 1.0D);
+    }
+
+    /**
+     * @param eventType the event type
+     * @return whether events of the given type may be sampled or dropped by a policy
+     */
+    public static boolean isSampleable(final ProvenanceEventType eventType) {
+        return SAMPLEABLE_EVENT_TYPES.contains(eventType);
+    }
+
+    /**
+     * @return {@code true} if this policy records every event, in which case callers may skip consulting it
+     */
+    public boolean isRecordingAll() {
+        return recordingAll;
+    }
+
+    /**
+     * @param eventType the event type
+     * @return the fraction of events of the given type that are recorded, between 0 and 1 inclusive
+     */
+    public double getSampleRate(final ProvenanceEventType eventType) {
+        return sampleRates[eventType.ordinal()];
+    }
+
+    /**
+     * Determines whether an event of the given type for the FlowFile with the given identifier should be recorded.
+     *
+     * @param eventType the type of the event
+     * @param flowFileId the identifier of the FlowFile, as returned by {@link FlowFile#getId()}
+     * @return {@code true} if the event should be recorded, {@code false} if it should be dropped
+     */
+    public boolean shouldRecord(final ProvenanceEventType eventType, final long flowFileId) {
+        final double sampleRate = sampleRates[eventType.ordinal()];
+        if (sampleRate >= 1.0D) {
+            return true;
+        }
+        if (sampleRate <= 0.0D) {
+            return false;
+        }
+
+        return (mix(flowFileId) >>> 11) * UNIT_SCALE < sampleRate;
+    }
+
+    /**
+     * Determines whether an event of the given type for the given FlowFile should be recorded.
+     *
+     * @param eventType the type of the event
+     * @param flowFile the FlowFile that the event is about
+     * @return {@code true} if the event should be recorded, {@code false} if it should be dropped
+     */
+    public boolean shouldRecord(final ProvenanceEventType eventType, final FlowFile flowFile) {
+        return shouldRecord(eventType, flowFile.getId());
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ProvenanceEventPolicy[");
+        boolean first = true;
+        for (final ProvenanceEventType eventType : SAMPLEABLE_EVENT_TYPES) {
+            final double sampleRate = getSampleRate(eventType);
+            if (sampleRate < 1.0D) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(eventType).append('=').append(sampleRate);
+                first = false;
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Scrambles the bits of the FlowFile identifier, using the finalizer of the SplitMix64 generator,
+     * so that sequential identifiers are sampled uniformly.
+     */
+    private static long mix(final long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static final class Builder {
+
+        private final double[] sampleRates = new double[ProvenanceEventType.values().length];
+
+        public Builder() {
+            Arrays.fill(sampleRates, 1.0D);
+        }
+
+        /**
+         * Sets the fraction of events of the given type that are recorded
+         *
+         * @param eventType the event type to sample
+         * @param sampleRate the fraction of events to record, between 0 and 1 inclusive
+         * @return the builder
+         * @throws IllegalArgumentException if the event type is not sampleable or the rate is not between 0 and 1
+         */
+        public Builder sampleRate(final ProvenanceEventType eventType, final double sampleRate) {
+            if (!isSampleable(eventType)) {
+                throw new IllegalArgumentException("Provenance Events of type " + eventType + " must always be recorded and cannot be sampled");
+            }
+            if (!(sampleRate >= 0.0D && sampleRate <= 1.0D)) {
+                throw new IllegalArgumentException("Sample Rate must be between 0 and 1 but was " + sampleRate);
+            }
+
+            sampleRates[eventType.ordinal()] = sampleRate;
+            return this;
+        }
+
+        /**
+         * Drops all events of the given type
+         *
+         * @param eventType the event type to drop
+         * @return the builder
+         * @throws IllegalArgumentException if the event type is not sampleable
+         */
+        public Builder exclude(final ProvenanceEventType eventType) {
+            return sampleRate(eventType, 0.0D);
+        }
+
+        public ProvenanceEventPolicy build() {
+            return new ProvenanceEventPolicy(this);
+        }
+    }
+}
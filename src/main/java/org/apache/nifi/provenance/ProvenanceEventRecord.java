@@ -101,6 +101,19 @@ public interface ProvenanceEventRecord {
      */
     Map<String, String> getUpdatedAttributes();
 
+    /**
+     * Returns the attributes associated with this event as an {@link AttributeDelta}, which holds the
+     * attributes that existed before the event along with only those attributes that changed. Implementations
+     * that store attributes in this form should override this method and implement {@link #getAttributes()},
+     * {@link #getPreviousAttributes()} and {@link #getUpdatedAttributes()} as views of the delta, so that the
+     * attribute map is not copied for every event.
+     *
+     * @return the attribute delta for this event
+     */
+    default AttributeDelta getAttributeDelta() {
+        return AttributeDelta.of(getPreviousAttributes(), getUpdatedAttributes());
+    }
+
     /**
      * @return the ID of the Processor/component that created this Provenance
      * Event
@@ -69,6 +69,28 @@ public interface ProvenanceEventRepository {
      */
     List<ProvenanceEventRecord> getEvents(long firstRecordId, final int maxRecords) throws IOException;
 
+    /**
+     * Returns a cursor over all <code>ProvenanceEventRecord</code>s in the
+     * repository starting with the given ID that match the given filter, in order
+     * of increasing event ID. Events are read from the repository as the cursor
+     * advances, so callers may consume an arbitrary number of events without holding
+     * them all in memory. This method performs no authorization of the events.
+     *
+     * <p>
+     * The default implementation reads the repository in pages by way of
+     * {@link #getEvents(long, int)} and evaluates the filter against each event.
+     * Implementations are encouraged to override this method in order to evaluate
+     * the filter against their indexes, so that events that do not match are never read.
+     * </p>
+     *
+     * @param firstRecordId id of the first record to consider
+     * @param filter the criteria that returned events must match
+     * @return a cursor over the matching records, which must be closed by the caller
+     * @throws java.io.IOException if error reading from repository
+     */
+    default ProvenanceEventCursor getEventCursor(final long firstRecordId, final ProvenanceEventFilter filter) throws IOException {
+        return new PagedProvenanceEventCursor(this, firstRecordId, filter);
+    }
 
     /**
      * @return the largest ID of any event that is queryable in the repository.
@@ -27,7 +27,18 @@ import java.util.Collection;
  * ProvenanceReporter is always tied to a {@link ProcessSession}. Any events
  * that are generated are reported to Provenance only after the session has been
  * committed. If the session is rolled back, the events related to that session
- * are purged.
+ * are purged. Events of a sampleable type may also be dropped before they are
+ * reported, according to the component's {@link ProvenanceEventPolicy}.
+ *
+ * <p>
+ * Implementations may coalesce repeated
+ * {@link ProvenanceEventType#ATTRIBUTES_MODIFIED ATTRIBUTES_MODIFIED} and
+ * {@link ProvenanceEventType#CONTENT_MODIFIED CONTENT_MODIFIED} events for the
+ * same FlowFile within a session into a single event when the session is
+ * committed, using {@link ProvenanceEventCoalescer}, which defines the rules
+ * under which events may be coalesced without losing information about the
+ * FlowFile's state. Callers must not rely on events being coalesced.
+ * </p>
  */
 public interface ProvenanceReporter {
 
@@ -316,6 +327,52 @@ public interface ProvenanceReporter {
      */
     void send(FlowFile flowFile, String transitUri, String details, long transmissionMillis, boolean force);
 
+    /**
+     * Emits a Provenance Event of type {@link ProvenanceEventType#SEND SEND}
+     * for each of the given FlowFiles, indicating that each FlowFile was sent
+     * to an external destination. Calling this method is equivalent to calling
+     * {@link #send(FlowFile, String)} for each FlowFile, but allows
+     * implementations to record the events in a single pass, sharing the
+     * fields that are common to all of them.
+     *
+     * @param flowFiles the FlowFiles that were sent
+     * @param transitUri A URI that provides information about the System and
+     * Protocol information over which the transfer occurred. The intent of this
+     * field is such that both the sender and the receiver can publish the
+     * events to an external Enterprise-wide system that is then able to
+     * correlate the SEND and RECEIVE events.
+     */
+    default void send(Collection<FlowFile> flowFiles, String transitUri) {
+        for (final FlowFile flowFile : flowFiles) {
+            send(flowFile, transitUri);
+        }
+    }
+
+    /**
+     * Emits a Provenance Event of type {@link ProvenanceEventType#SEND SEND}
+     * for each of the given FlowFiles, indicating that each FlowFile was sent
+     * to an external destination. Calling this method is equivalent to calling
+     * {@link #send(FlowFile, String, String, long)} for each FlowFile, but
+     * allows implementations to record the events in a single pass, sharing
+     * the fields that are common to all of them.
+     *
+     * @param flowFiles the FlowFiles that were sent
+     * @param transitUri A URI that provides information about the System and
+     * Protocol information over which the transfer occurred. The intent of this
+     * field is such that both the sender and the receiver can publish the
+     * events to an external Enterprise-wide system that is then able to
+     * correlate the SEND and RECEIVE events.
+     * @param details additional details related to the SEND events, such as a
+     * remote system's Distinguished Name
+     * @param transmissionMillis the number of milliseconds spent sending the
+     * data to the remote system
+     */
+    default void send(Collection<FlowFile> flowFiles, String transitUri, String details, long transmissionMillis) {
+        for (final FlowFile flowFile : flowFiles) {
+            send(flowFile, transitUri, details, transmissionMillis);
+        }
+    }
+
     /**
      * Emits a Provenance Event of type {@link ProvenanceEventType#UPLOAD UPLOAD}
      * that indicates that an external resource was sent to an external
@@ -578,6 +635,25 @@ public interface ProvenanceReporter {
      */
     void modifyContent(FlowFile flowFile, String details, long processingMillis);
 
+    /**
+     * Emits a Provenance Event of type
+     * {@link ProvenanceEventType#CONTENT_MODIFIED CONTENT_MODIFIED} for each of
+     * the given FlowFiles, indicating that the content of each FlowFile has
+     * been modified. Calling this method is equivalent to calling
+     * {@link #modifyContent(FlowFile, String)} for each FlowFile, but allows
+     * implementations to record the events in a single pass, sharing the
+     * fields that are common to all of them.
+     *
+     * @param flowFiles the FlowFiles whose content is being modified
+     * @param details Any details about how the content of the FlowFiles has
+     * been modified; may be null
+     */
+    default void modifyContent(Collection<FlowFile> flowFiles, String details) {
+        for (final FlowFile flowFile : flowFiles) {
+            modifyContent(flowFile, details);
+        }
+    }
+
     /**
      * Emits a Provenance Event of type
      * {@link ProvenanceEventType#ATTRIBUTES_MODIFIED ATTRIBUTES_MODIFIED} that
@@ -616,6 +692,42 @@ public interface ProvenanceReporter {
      */
     void modifyAttributes(FlowFile flowFile, String details);
 
+    /**
+     * Emits a Provenance Event of type
+     * {@link ProvenanceEventType#ATTRIBUTES_MODIFIED ATTRIBUTES_MODIFIED} for
+     * each of the given FlowFiles, indicating that the Attributes of each
+     * FlowFile were updated. Calling this method is equivalent to calling
+     * {@link #modifyAttributes(FlowFile)} for each FlowFile, but allows
+     * implementations to record the events in a single pass, sharing the
+     * fields that are common to all of them.
+     *
+     * @param flowFiles the FlowFiles whose attributes were modified
+     */
+    default void modifyAttributes(Collection<FlowFile> flowFiles) {
+        for (final FlowFile flowFile : flowFiles) {
+            modifyAttributes(flowFile);
+        }
+    }
+
+    /**
+     * Emits a Provenance Event of type
+     * {@link ProvenanceEventType#ATTRIBUTES_MODIFIED ATTRIBUTES_MODIFIED} for
+     * each of the given FlowFiles, indicating that the Attributes of each
+     * FlowFile were updated. Calling this method is equivalent to calling
+     * {@link #modifyAttributes(FlowFile, String)} for each FlowFile, but allows
+     * implementations to record the events in a single pass, sharing the
+     * fields that are common to all of them.
+     *
+     * @param flowFiles the FlowFiles whose attributes were modified
+     * @param details any details should be provided about the attribute
+     * modification
+     */
+    default void modifyAttributes(Collection<FlowFile> flowFiles, String details) {
+        for (final FlowFile flowFile : flowFiles) {
+            modifyAttributes(flowFile, details);
+        }
+    }
+
     /**
      * Emits a Provenance Event of type {@link ProvenanceEventType#ROUTE ROUTE}
      * that indicates that the given FlowFile was routed to the given
@@ -695,6 +807,44 @@ public interface ProvenanceReporter {
      */
     void route(FlowFile flowFile, Relationship relationship, String details, long processingDuration);
 
+    /**
+     * Emits a Provenance Event of type {@link ProvenanceEventType#ROUTE ROUTE}
+     * for each of the given FlowFiles, indicating that each FlowFile was routed
+     * to the given {@link Relationship}. The same restrictions apply as for
+     * {@link #route(FlowFile, Relationship)}. Calling this method is equivalent
+     * to calling {@link #route(FlowFile, Relationship)} for each FlowFile, but
+     * allows implementations to record the events in a single pass, sharing
+     * the fields that are common to all of them.
+     *
+     * @param flowFiles the FlowFiles being routed
+     * @param relationship the Relationship to which the FlowFiles were routed
+     */
+    default void route(Collection<FlowFile> flowFiles, Relationship relationship) {
+        for (final FlowFile flowFile : flowFiles) {
+            route(flowFile, relationship);
+        }
+    }
+
+    /**
+     * Emits a Provenance Event of type {@link ProvenanceEventType#ROUTE ROUTE}
+     * for each of the given FlowFiles, indicating that each FlowFile was routed
+     * to the given {@link Relationship}. The same restrictions apply as for
+     * {@link #route(FlowFile, Relationship)}. Calling this method is equivalent
+     * to calling {@link #route(FlowFile, Relationship, String)} for each
+     * FlowFile, but allows implementations to record the events in a single
+     * pass, sharing the fields that are common to all of them.
+     *
+     * @param flowFiles the FlowFiles being routed
+     * @param relationship the Relationship to which the FlowFiles were routed
+     * @param details any details pertinent to the Route events, such as why the
+     * FlowFiles were routed to the specified Relationship
+     */
+    default void route(Collection<FlowFile> flowFiles, Relationship relationship, String details) {
+        for (final FlowFile flowFile : flowFiles) {
+            route(flowFile, relationship, details);
+        }
+    }
+
     /**
      * Emits a Provenance Event of type
      * {@link ProvenanceEventType#CREATE CREATE} that indicates that the given
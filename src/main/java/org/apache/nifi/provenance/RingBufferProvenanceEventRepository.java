@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.provenance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, in-memory {@link ProvenanceEventRepository} that retains only the most recent events. It is intended
+ * for tests, stateless runtimes and deployments that do not require durable provenance.
+ *
+ * <p>
+ * Events are stored in a fixed-size ring buffer. Registering events reserves a contiguous range of Event IDs with
+ * a single atomic increment, so that any number of threads may register events concurrently without locking. An
+ * event becomes visible to {@link #getEvents(long, int)}, {@link #getEvent(long)} and {@link #getMaxEventId()} once
+ * it and every event with a smaller ID have been stored. Once more events than the capacity of the buffer have been
+ * registered, the oldest events are discarded.
+ * </p>
+ *
+ * <p>
+ * Registered events are not copied. The events returned by this repository expose the Event ID that was assigned
+ * on registration and delegate all other accessors to the event that was registered.
+ * </p>
+ */
+public class RingBufferProvenanceEventRepository implements ProvenanceEventRepository {
+
+    private final Supplier<ProvenanceEventBuilder> eventBuilderFactory;
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<ProvenanceEventRecord> events;
+    private final AtomicLong nextEventId = new AtomicLong(0L);
+    private final AtomicLong maxPublishedEventId = new AtomicLong(-1L);
+
+    /**
+     * @param capacity the maximum number of events to retain; rounded up to the next power of two
+     * @param eventBuilderFactory supplies the builders returned by {@link #eventBuilder()}
+     */
+    public RingBufferProvenanceEventRepository(final int capacity, final Supplier<ProvenanceEventBuilder> eventBuilderFactory) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30 but was " + capacity);
+        }
+
+        this.eventBuilderFactory = Objects.requireNonNull(eventBuilderFactory, "Event Builder Factory is required");
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.events = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    /**
+     * @return the maximum number of events retained by this repository
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public ProvenanceEventBuilder eventBuilder() {
+        return eventBuilderFactory.get();
+    }
+
+    @Override
+    public void registerEvent(final ProvenanceEventRecord event) {
+        final long eventId = nextEventId.getAndIncrement();
+        store(eventId, event);
+        publish();
+    }
+
+    @Override
+    public void registerEvents(final Iterable<ProvenanceEventRecord> events) {
+        final List<ProvenanceEventRecord> eventList;
+        if (events instanceof List) {
+            eventList = (List<ProvenanceEventRecord>) events;
+        } else {
+            eventList = new ArrayList<>();
+            events.forEach(eventList::add);
+        }
+
+        if (eventList.isEmpty()) {
+            return;
+        }
+
+        long eventId = nextEventId.getAndAdd(eventList.size());
+        for (final ProvenanceEventRecord event : eventList) {
+            store(eventId++, event);
+        }
+        publish();
+    }
+
+    @Override
+    public List<ProvenanceEventRecord> getEvents(final long firstRecordId, final int maxRecords) {
+        final long maxEventId = maxPublishedEventId.get();
+        final long firstEventId = Math.max(Math.max(firstRecordId, 0L), maxEventId - capacity + 1);
+        if (maxRecords < 1 || firstEventId > maxEventId) {
+            return Collections.emptyList();
+        }
+
+        final int count = (int) Math.min(maxRecords, maxEventId - firstEventId + 1);
+        final List<ProvenanceEventRecord> results = new ArrayList<>(count);
+        for (long eventId = firstEventId; eventId <= maxEventId && results.size() < maxRecords; eventId++) {
+            final ProvenanceEventRecord event = events.get(index(eventId));
+            // A mismatched ID indicates that the event was overwritten by a newer event after the range was computed
+            if (event != null && event.getEventId() == eventId) {
+                results.add(event);
+            }
+        }
+
+        return results;
+    }
+
+    @Override
+    public Long getMaxEventId() {
+        final long maxEventId = maxPublishedEventId.get();
+        return maxEventId < 0 ? null : maxEventId;
+    }
+
+    @Override
+    public ProvenanceEventRecord getEvent(final long id) {
+        if (id < 0 || id > maxPublishedEventId.get()) {
+            return null;
+        }
+
+        final ProvenanceEventRecord event = events.get(index(id));
+        return event != null && event.getEventId() == id ? event : null;
+    }
+
+    @Override
+    public void close() {
+        for (int i = 0; i < capacity; i++) {
+            events.set(i, null);
+        }
+    }
+
+    private int index(final long eventId) {
+        return (int) (eventId & mask);
+    }
+
+    private void store(final long eventId, final ProvenanceEventRecord event) {
+        final ProvenanceEventRecord identified = new IdentifiedProvenanceEventRecord(eventId, event);
+        final int index = index(eventId);
+
+        while (true) {
+            final ProvenanceEventRecord current = events.get(index);
+            // If a writer that reserved a later ID has already wrapped around to this slot, this event has been evicted
+            if (current != null && current.getEventId() > eventId) {
+                return;
+            }
+            if (events.compareAndSet(index, current, identified)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Advances the maximum published Event ID past every contiguous event that has been stored. Any thread that stores
+     * events attempts to advance it, so an event stored out of order becomes visible once the events before it are stored.
+     */
+    private void publish() {
+        while (true) {
+            final long published = maxPublishedEventId.get();
+            final long candidate = published + 1;
+            if (candidate >= nextEventId.get()) {
+                return;
+            }
+
+            final ProvenanceEventRecord event = events.get(index(candidate));
+            if (event == null || event.getEventId() < candidate) {
+                return;
+            }
+
+            maxPublishedEventId.compareAndSet(published, candidate);
+        }
+    }
+}
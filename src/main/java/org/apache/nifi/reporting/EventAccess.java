@@ -17,8 +17,12 @@
 package org.apache.nifi.reporting;
 
 import org.apache.nifi.action.Action;
+import org.apache.nifi.controller.status.ColumnarStatusSnapshot;
 import org.apache.nifi.controller.status.ProcessGroupStatus;
+import org.apache.nifi.controller.status.StatusSnapshotDelta;
 import org.apache.nifi.diagnostics.StorageUsage;
+import org.apache.nifi.provenance.ProvenanceEventCursor;
+import org.apache.nifi.provenance.ProvenanceEventFilter;
 import org.apache.nifi.provenance.ProvenanceEventRecord;
 import org.apache.nifi.provenance.ProvenanceEventRepository;
 
@@ -39,6 +43,30 @@ public interface EventAccess {
      */
     ProcessGroupStatus getGroupStatus(final String groupId);
 
+    /**
+     * Returns the changes to the status of all components in this Controller since the snapshot
+     * identified by the given generation. Implementations that track which components changed should
+     * return only those components; the default implementation always returns a full snapshot.
+     *
+     * @param sinceGeneration the generation of the caller's previous snapshot, as returned by
+     * {@link StatusSnapshotDelta#getGeneration()}, or {@link StatusSnapshotDelta#INITIAL_GENERATION} to obtain a full snapshot
+     * @return the changes since the given generation
+     */
+    default StatusSnapshotDelta getControllerStatusDelta(final long sinceGeneration) {
+        return StatusSnapshotDelta.full(getControllerStatus(), Math.max(sinceGeneration, StatusSnapshotDelta.INITIAL_GENERATION) + 1);
+    }
+
+    /**
+     * Returns the status for all components in this Controller in columnar form, with one primitive array per metric.
+     * The default implementation converts the result of {@link #getControllerStatus()}; implementations are encouraged
+     * to populate the columns directly.
+     *
+     * @return the columnar status for all components in this Controller
+     */
+    default ColumnarStatusSnapshot getControllerStatusColumnar() {
+        return ColumnarStatusSnapshot.of(getControllerStatus());
+    }
+
     /**
      * Convenience method to obtain Provenance Events starting with (and
      * including) the given ID. If no event exists with that ID, the first event
@@ -51,6 +79,21 @@ public interface EventAccess {
      */
     List<ProvenanceEventRecord> getProvenanceEvents(long firstEventId, final int maxRecords) throws IOException;
 
+    /**
+     * Convenience method to obtain a cursor over the Provenance Events starting with
+     * (and including) the given ID that match the given filter. Unlike
+     * {@link #getProvenanceEvents(long, int)}, events are streamed from the repository
+     * as the cursor advances rather than being materialized up front.
+     *
+     * @param firstEventId the ID of the first event to consider
+     * @param filter the criteria that returned events must match
+     * @return a cursor over the matching event records, which must be closed by the caller
+     * @throws java.io.IOException if unable to get records
+     */
+    default ProvenanceEventCursor getProvenanceEventCursor(final long firstEventId, final ProvenanceEventFilter filter) throws IOException {
+        return getProvenanceRepository().getEventCursor(firstEventId, filter);
+    }
+
     /**
      * @return the Provenance Event Repository
      */
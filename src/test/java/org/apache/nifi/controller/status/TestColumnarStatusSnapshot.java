@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status;
+
+import org.apache.nifi.controller.status.ColumnarStatusSnapshot.ConnectionMetric;
+import org.apache.nifi.controller.status.ColumnarStatusSnapshot.ConnectionRateMetric;
+import org.apache.nifi.controller.status.ColumnarStatusSnapshot.GroupMetric;
+import org.apache.nifi.controller.status.ColumnarStatusSnapshot.PortMetric;
+import org.apache.nifi.controller.status.ColumnarStatusSnapshot.ProcessorMetric;
+import org.apache.nifi.controller.status.ColumnarStatusSnapshot.RemoteProcessGroupMetric;
+import org.apache.nifi.controller.status.analytics.ConnectionStatusPredictions;
+import org.apache.nifi.registry.flow.VersionedFlowState;
+import org.apache.nifi.scheduling.ExecutionNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestColumnarStatusSnapshot {
+
+    @Test
+    public void testColumns() {
+        final ColumnarStatusSnapshot snapshot = ColumnarStatusSnapshot.of(createSnapshot());
+
+        assertEquals(2, snapshot.getGroupCount());
+        assertArrayEquals(new int[] {ColumnarStatusSnapshot.NONE, 0}, snapshot.getGroupParents());
+        assertArrayEquals(new long[] {10L, 20L}, snapshot.getGroupColumn(GroupMetric.INPUT_COUNT));
+
+        assertEquals(2, snapshot.getProcessorCount());
+        assertArrayEquals(new long[] {1L, 2L}, snapshot.getProcessorColumn(ProcessorMetric.INPUT_COUNT));
+        assertArrayEquals(new int[] {0, 1}, snapshot.getProcessorGroups());
+        assertEquals("child-processor", snapshot.getString(snapshot.getProcessorIds()[1]));
+        assertEquals(snapshot.getProcessorTypes()[0], snapshot.getProcessorTypes()[1]);
+        assertEquals(RunStatus.Running.ordinal(), snapshot.getProcessorRunStatuses()[0]);
+
+        assertEquals(1, snapshot.getConnectionCount());
+        assertArrayEquals(new long[] {5L}, snapshot.getConnectionColumn(ConnectionMetric.QUEUED_COUNT));
+        assertEquals(snapshot.getProcessorIds()[0], snapshot.getConnectionSourceIds()[0]);
+        assertArrayEquals(new double[] {2.5D}, snapshot.getConnectionColumn(ConnectionRateMetric.ENQUEUE_RATE));
+        assertArrayEquals(new double[] {1.25D}, snapshot.getConnectionColumn(ConnectionRateMetric.DEQUEUE_RATE));
+
+        assertEquals(1, snapshot.getPortCount());
+        assertTrue(snapshot.getPortInputs()[0]);
+        assertArrayEquals(new long[] {3L}, snapshot.getPortColumn(PortMetric.ACTIVE_THREAD_COUNT));
+        assertEquals(ColumnarStatusSnapshot.NONE, snapshot.getPortRunStatuses()[0]);
+        assertArrayEquals(new int[] {1}, snapshot.getPortTransmitting());
+
+        assertArrayEquals(new int[] {VersionedFlowState.UP_TO_DATE.ordinal(), ColumnarStatusSnapshot.NONE}, snapshot.getGroupVersionedFlowStates());
+        assertEquals(ExecutionNode.PRIMARY.ordinal(), snapshot.getProcessorExecutionNodes()[0]);
+        assertArrayEquals(new int[] {LoadBalanceStatus.LOAD_BALANCE_ACTIVE.ordinal()}, snapshot.getConnectionLoadBalanceStatuses());
+        assertEquals("1 GB", snapshot.getString(snapshot.getConnectionBackPressureDataSizeThresholds()[0]));
+
+        assertEquals(1, snapshot.getRemoteProcessGroupCount());
+        assertArrayEquals(new int[] {1}, snapshot.getRemoteProcessGroupGroups());
+        assertEquals("http://remote/nifi", snapshot.getString(snapshot.getRemoteProcessGroupUris()[0]));
+        assertArrayEquals(new int[] {TransmissionStatus.Transmitting.ordinal()}, snapshot.getRemoteProcessGroupTransmissionStatuses());
+        assertArrayEquals(new long[] {7L}, snapshot.getRemoteProcessGroupColumn(RemoteProcessGroupMetric.SENT_COUNT));
+        assertArrayEquals(new long[] {ColumnarStatusSnapshot.NONE}, snapshot.getRemoteProcessGroupColumn(RemoteProcessGroupMetric.LAST_REFRESH_TIME));
+    }
+
+    @Test
+    public void testToProcessGroupStatus() {
+        final ProcessGroupStatus root = ColumnarStatusSnapshot.of(createSnapshot()).toProcessGroupStatus();
+
+        assertEquals("root", root.getId());
+        assertEquals(10, root.getInputCount());
+        assertEquals(1, root.getProcessorStatus().size());
+        assertEquals(1, root.getConnectionStatus().size());
+
+        final ConnectionStatus connection = root.getConnectionStatus().iterator().next();
+        assertEquals("root-processor", connection.getSourceId());
+        assertNull(connection.getDestinationId());
+        assertEquals(5, connection.getQueuedCount());
+        assertEquals(2.5D, connection.getEnqueueRate());
+        assertEquals(1.25D, connection.getDequeueRate());
+        assertEquals(2L, connection.getQueuedDurationHistogram().getCount());
+
+        final ProcessGroupStatus child = root.getProcessGroupStatus().iterator().next();
+        assertEquals("child", child.getId());
+        assertEquals(20, child.getInputCount());
+        final ProcessorStatus processor = child.getProcessorStatus().iterator().next();
+        assertEquals("child", processor.getGroupId());
+        assertEquals("org.apache.nifi.Test", processor.getType());
+        assertEquals(2, processor.getInputCount());
+
+        final PortStatus port = child.getInputPortStatus().iterator().next();
+        assertEquals(3, port.getActiveThreadCount());
+        assertNull(port.getRunStatus());
+        assertEquals(0, child.getOutputPortStatus().size());
+        assertTrue(port.isTransmitting());
+    }
+
+    @Test
+    public void testToProcessGroupStatusRetainsDetails() {
+        final ProcessGroupStatus source = createSnapshot();
+        final ProcessGroupStatus root = ColumnarStatusSnapshot.of(source).toProcessGroupStatus();
+
+        assertEquals(VersionedFlowState.UP_TO_DATE, root.getVersionedFlowState());
+        assertEquals(100L, root.getProcessingPerformanceStatus().getCpuDuration());
+        assertNotSame(source.getProcessingPerformanceStatus(), root.getProcessingPerformanceStatus());
+
+        final ProcessorStatus processor = root.getProcessorStatus().iterator().next();
+        assertEquals(ExecutionNode.PRIMARY, processor.getExecutionNode());
+        assertEquals(Map.of("records", 4L), processor.getCounters());
+        assertEquals(50L, processor.getProcessingPerformanceStatus().getCpuDuration());
+
+        final ConnectionStatus connection = root.getConnectionStatus().iterator().next();
+        assertEquals("1 GB", connection.getBackPressureDataSizeThreshold());
+        assertEquals(FlowFileAvailability.ACTIVE_QUEUE_EMPTY, connection.getFlowFileAvailability());
+        assertEquals(LoadBalanceStatus.LOAD_BALANCE_ACTIVE, connection.getLoadBalanceStatus());
+        assertEquals(60_000L, connection.getPredictions().getPredictedTimeToCountBackpressureMillis());
+
+        final ProcessGroupStatus child = root.getProcessGroupStatus().iterator().next();
+        assertNull(child.getVersionedFlowState());
+        assertEquals(0, root.getRemoteProcessGroupStatus().size());
+
+        final RemoteProcessGroupStatus remoteProcessGroup = child.getRemoteProcessGroupStatus().iterator().next();
+        assertEquals("child-rpg", remoteProcessGroup.getId());
+        assertEquals("child", remoteProcessGroup.getGroupId());
+        assertEquals("http://remote/nifi", remoteProcessGroup.getTargetUri());
+        assertEquals(TransmissionStatus.Transmitting, remoteProcessGroup.getTransmissionStatus());
+        assertEquals(7, remoteProcessGroup.getSentCount());
+        assertEquals(2, remoteProcessGroup.getActiveRemotePortCount());
+        assertNull(remoteProcessGroup.getLastRefreshTime());
+    }
+
+    @Test
+    public void testSnapshotIndependentOfSource() {
+        final ProcessGroupStatus source = createSnapshot();
+        final ProcessorStatus sourceProcessor = source.getProcessorStatus().iterator().next();
+        sourceProcessor.setCounters(new HashMap<>(Map.of("records", 4L)));
+        final ColumnarStatusSnapshot snapshot = ColumnarStatusSnapshot.of(source);
+
+        source.getProcessingPerformanceStatus().setCpuDuration(999L);
+        sourceProcessor.getProcessingPerformanceStatus().setCpuDuration(999L);
+        sourceProcessor.getCounters().put("records", 999L);
+        final ConnectionStatus sourceConnection = source.getConnectionStatus().iterator().next();
+        sourceConnection.getPredictions().setPredictedTimeToCountBackpressureMillis(999L);
+        sourceConnection.getQueuedDurationHistogram().recordValue(30L);
+
+        final ProcessGroupStatus root = snapshot.toProcessGroupStatus();
+        assertEquals(100L, root.getProcessingPerformanceStatus().getCpuDuration());
+        final ProcessorStatus processor = root.getProcessorStatus().iterator().next();
+        assertEquals(50L, processor.getProcessingPerformanceStatus().getCpuDuration());
+        assertEquals(Map.of("records", 4L), processor.getCounters());
+        final ConnectionStatus connection = root.getConnectionStatus().iterator().next();
+        assertEquals(60_000L, connection.getPredictions().getPredictedTimeToCountBackpressureMillis());
+        assertEquals(2L, connection.getQueuedDurationHistogram().getCount());
+    }
+
+    @Test
+    public void testRemoteProcessGroupRefreshTime() {
+        final ProcessGroupStatus source = createSnapshot();
+        final RemoteProcessGroupStatus remoteProcessGroup = source.getProcessGroupStatus().iterator().next().getRemoteProcessGroupStatus().iterator().next();
+        remoteProcessGroup.setLastRefreshTime(new Date(1_000L));
+
+        final ProcessGroupStatus root = ColumnarStatusSnapshot.of(source).toProcessGroupStatus();
+
+        final RemoteProcessGroupStatus derived = root.getProcessGroupStatus().iterator().next().getRemoteProcessGroupStatus().iterator().next();
+        assertEquals(new Date(1_000L), derived.getLastRefreshTime());
+        assertNull(derived.getComments());
+    }
+
+    private static ProcessGroupStatus createSnapshot() {
+        final ProcessGroupStatus root = createGroup("root", 10, 1);
+        final ConnectionStatus connection = new ConnectionStatus();
+        connection.setId("root-connection");
+        connection.setSourceId("root-processor");
+        connection.setQueuedCount(5);
+        connection.setEnqueueRate(2.5D);
+        connection.setDequeueRate(1.25D);
+        final LatencyHistogram queuedDurationHistogram = new LatencyHistogram();
+        queuedDurationHistogram.recordValue(10L);
+        queuedDurationHistogram.recordValue(20L);
+        connection.setQueuedDurationHistogram(queuedDurationHistogram);
+        connection.setBackPressureDataSizeThreshold("1 GB");
+        connection.setFlowFileAvailability(FlowFileAvailability.ACTIVE_QUEUE_EMPTY);
+        connection.setLoadBalanceStatus(LoadBalanceStatus.LOAD_BALANCE_ACTIVE);
+        final ConnectionStatusPredictions predictions = new ConnectionStatusPredictions();
+        predictions.setPredictedTimeToCountBackpressureMillis(60_000L);
+        connection.setPredictions(predictions);
+        root.setConnectionStatus(List.of(connection));
+        root.setVersionedFlowState(VersionedFlowState.UP_TO_DATE);
+        root.setProcessingPerformanceStatus(createPerformance(100L));
+
+        final ProcessorStatus rootProcessor = root.getProcessorStatus().iterator().next();
+        rootProcessor.setExecutionNode(ExecutionNode.PRIMARY);
+        rootProcessor.setCounters(Map.of("records", 4L));
+        rootProcessor.setProcessingPerformanceStatus(createPerformance(50L));
+
+        final ProcessGroupStatus child = createGroup("child", 20, 2);
+        final PortStatus port = new PortStatus();
+        port.setId("child-port");
+        port.setActiveThreadCount(3);
+        port.setTransmitting(true);
+        child.setInputPortStatus(List.of(port));
+
+        final RemoteProcessGroupStatus remoteProcessGroup = new RemoteProcessGroupStatus();
+        remoteProcessGroup.setId("child-rpg");
+        remoteProcessGroup.setTargetUri("http://remote/nifi");
+        remoteProcessGroup.setTransmissionStatus(TransmissionStatus.Transmitting);
+        remoteProcessGroup.setSentCount(7);
+        remoteProcessGroup.setActiveRemotePortCount(2);
+        child.setRemoteProcessGroupStatus(List.of(remoteProcessGroup));
+
+        root.setProcessGroupStatus(List.of(child));
+        return root;
+    }
+
+    private static ProcessingPerformanceStatus createPerformance(final long cpuDuration) {
+        final ProcessingPerformanceStatus performanceStatus = new ProcessingPerformanceStatus();
+        performanceStatus.setCpuDuration(cpuDuration);
+        return performanceStatus;
+    }
+
+    private static ProcessGroupStatus createGroup(final String id, final int inputCount, final int processorInputCount) {
+        final ProcessGroupStatus group = new ProcessGroupStatus();
+        group.setId(id);
+        group.setName(id);
+        group.setInputCount(inputCount);
+
+        final ProcessorStatus processor = new ProcessorStatus();
+        processor.setId(id + "-processor");
+        processor.setType("org.apache.nifi.Test");
+        processor.setRunStatus(RunStatus.Running);
+        processor.setInputCount(processorInputCount);
+        group.setProcessorStatus(List.of(processor));
+        return group;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestLatencyHistogram {
+
+    @Test
+    public void testEmpty() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0L, histogram.getMin());
+        assertEquals(0L, histogram.getMax());
+        assertEquals(0L, histogram.getValueAtPercentile(99D));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101D));
+    }
+
+    @Test
+    public void testBucketsCoverRange() {
+        long previousUpperBound = -1L;
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            final long upperBound = LatencyHistogram.bucketUpperBound(i);
+            assertEquals(i, LatencyHistogram.bucketIndex(previousUpperBound + 1));
+            assertEquals(i, LatencyHistogram.bucketIndex(upperBound));
+            previousUpperBound = upperBound;
+        }
+
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 100; millis++) {
+            histogram.recordValue(millis * 1_000_000L);
+        }
+
+        assertEquals(100L, histogram.getCount());
+        assertEquals(1_000_000L, histogram.getMin());
+        assertEquals(100_000_000L, histogram.getMax());
+        assertEquals(50_500_000D, histogram.getMean(), 0.001D);
+        assertWithinPrecision(50_000_000L, histogram.getValueAtPercentile(50D));
+        assertWithinPrecision(99_000_000L, histogram.getValueAtPercentile(99D));
+        assertEquals(100_000_000L, histogram.getValueAtPercentile(100D));
+    }
+
+    @Test
+    public void testMerge() {
+        final LatencyHistogram first = new LatencyHistogram();
+        first.recordValue(1_000L, 99L);
+        final LatencyHistogram second = new LatencyHistogram();
+        second.recordValue(5_000_000L);
+
+        first.merge(second);
+        first.merge(new LatencyHistogram());
+
+        assertEquals(100L, first.getCount());
+        assertWithinPrecision(1_000L, first.getValueAtPercentile(99D));
+        assertEquals(5_000_000L, first.getValueAtPercentile(100D));
+        assertEquals(1_000L, first.getMin());
+    }
+
+    @Test
+    public void testMergedInProcessGroupStatus() {
+        final ProcessGroupStatus target = createGroup(1_000L);
+        final ProcessGroupStatus toMerge = createGroup(2_000L);
+        final LatencyHistogram original = toMerge.getProcessorStatus().iterator().next().getTaskDurationHistogram();
+
+        ProcessGroupStatus.merge(target, toMerge);
+
+        final ProcessorStatus merged = target.getProcessorStatus().iterator().next();
+        assertEquals(2L, merged.getTaskDurationHistogram().getCount());
+        assertEquals(2_000L, merged.getTaskDurationHistogram().getMax());
+        assertEquals(1L, original.getCount());
+        assertEquals(2L, merged.getProcessingPerformanceStatus().getCpuDuration());
+
+        final ProcessorStatus clone = merged.clone();
+        assertNotSame(merged.getTaskDurationHistogram(), clone.getTaskDurationHistogram());
+        assertEquals(2L, clone.getTaskDurationHistogram().getCount());
+    }
+
+    @Test
+    public void testConnectionStatusMergedInProcessGroupStatus() {
+        final ProcessGroupStatus target = createGroup(1_000L);
+        target.setConnectionStatus(List.of(createConnection(10L, 1.5D)));
+        final ProcessGroupStatus toMerge = createGroup(1_000L);
+        toMerge.setConnectionStatus(List.of(createConnection(60_000L, 2.5D)));
+
+        ProcessGroupStatus.merge(target, toMerge);
+
+        final ConnectionStatus merged = target.getConnectionStatus().iterator().next();
+        assertEquals(2L, merged.getQueuedDurationHistogram().getCount());
+        assertEquals(60_000L, merged.getQueuedDurationHistogram().getValueAtPercentile(100D));
+        assertEquals(4D, merged.getEnqueueRate(), 0.0001D);
+        assertEquals(2D, merged.getDequeueRate(), 0.0001D);
+        assertEquals(2L, merged.clone().getQueuedDurationHistogram().getCount());
+    }
+
+    private static ConnectionStatus createConnection(final long queuedMillis, final double enqueueRate) {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(queuedMillis);
+
+        final ConnectionStatus connection = new ConnectionStatus();
+        connection.setId("connection");
+        connection.setQueuedDurationHistogram(histogram);
+        connection.setEnqueueRate(enqueueRate);
+        connection.setDequeueRate(1D);
+        return connection;
+    }
+
+    private static void assertWithinPrecision(final long expected, final long actual) {
+        final double error = Math.abs(actual - expected) / (double) expected;
+        assertTrue(error <= 1D / LatencyHistogram.SUB_BUCKET_COUNT, "Expected " + expected + " but was " + actual);
+    }
+
+    private static ProcessGroupStatus createGroup(final long taskNanos) {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(taskNanos);
+
+        final ProcessingPerformanceStatus performanceStatus = new ProcessingPerformanceStatus();
+        performanceStatus.setIdentifier("processor");
+        performanceStatus.setCpuDuration(1L);
+        performanceStatus.setTaskDurationHistogram(histogram);
+
+        final ProcessorStatus processor = new ProcessorStatus();
+        processor.setId("processor");
+        processor.setProcessingPerformanceStatus(performanceStatus);
+
+        final ProcessGroupStatus group = new ProcessGroupStatus();
+        group.setId("root");
+        group.setInputCount(0);
+        group.setInputContentSize(0L);
+        group.setOutputCount(0);
+        group.setOutputContentSize(0L);
+        group.setQueuedCount(0);
+        group.setQueuedContentSize(0L);
+        group.setBytesRead(0L);
+        group.setBytesWritten(0L);
+        group.setActiveThreadCount(0);
+        group.setStatelessActiveThreadCount(0);
+        group.setTerminatedThreadCount(0);
+        group.setProcessorStatus(List.of(processor));
+        return group;
+    }
+}
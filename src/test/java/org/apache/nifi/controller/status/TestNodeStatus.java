@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestNodeStatus {
+
+    @Test
+    public void testClone() {
+        final NodeStatus status = createStatus();
+
+        final NodeStatus cloned = status.clone();
+
+        assertEquals(4L, cloned.getVirtualThreads());
+        assertEquals(2L, cloned.getMountedVirtualThreads());
+        assertEquals(1024L, cloned.getHeapAllocationRate());
+        assertEquals(7L, cloned.getGarbageCollectionCount());
+        assertEquals(30L, cloned.getGarbageCollectionPauseTimeInMs());
+        assertEquals(12L, cloned.getMaxGarbageCollectionPauseInMs());
+        assertEquals(9L, cloned.getSafepointCount());
+        assertEquals(3L, cloned.getSafepointTimeInMs());
+
+        assertEquals(1, cloned.getBufferPools().size());
+        final StorageStatus clonedPool = cloned.getBufferPools().get(0);
+        assertNotSame(status.getBufferPools().get(0), clonedPool);
+        assertEquals("direct", clonedPool.getName());
+        assertEquals(4096L, clonedPool.getUsedSpace());
+        assertEquals(8L, clonedPool.getObjectCount());
+    }
+
+    @Test
+    public void testCloneIsIndependent() {
+        final NodeStatus status = createStatus();
+        final NodeStatus cloned = status.clone();
+
+        status.getBufferPools().get(0).setObjectCount(100L);
+        status.getBufferPools().add(bufferPool("mapped"));
+        status.setVirtualThreads(40L);
+
+        assertEquals(1, cloned.getBufferPools().size());
+        assertEquals(8L, cloned.getBufferPools().get(0).getObjectCount());
+        assertEquals(4L, cloned.getVirtualThreads());
+    }
+
+    @Test
+    public void testStorageStatusObjectCount() {
+        final StorageStatus pool = bufferPool("direct");
+
+        final StorageStatus cloned = pool.clone();
+        pool.setObjectCount(1L);
+
+        assertEquals(8L, cloned.getObjectCount());
+        assertTrue(cloned.toString().contains("objectCount=8"));
+    }
+
+    private static NodeStatus createStatus() {
+        final NodeStatus status = new NodeStatus();
+        status.setVirtualThreads(4L);
+        status.setMountedVirtualThreads(2L);
+        status.setHeapAllocationRate(1024L);
+        status.setGarbageCollectionCount(7L);
+        status.setGarbageCollectionPauseTimeInMs(30L);
+        status.setMaxGarbageCollectionPauseInMs(12L);
+        status.setSafepointCount(9L);
+        status.setSafepointTimeInMs(3L);
+        status.setBufferPools(List.of(bufferPool("direct")));
+        return status;
+    }
+
+    private static StorageStatus bufferPool(final String name) {
+        final StorageStatus pool = new StorageStatus();
+        pool.setName(name);
+        pool.setUsedSpace(4096L);
+        pool.setObjectCount(8L);
+        return pool;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestProcessGroupStatusMerger {
+
+    private static final int NODE_COUNT = 3;
+
+    @Test
+    public void testMergeChildGroupsWrittenBack() {
+        final ProcessGroupStatus target = createGroup("root", 1, 1);
+        ProcessGroupStatus.merge(target, createGroup("root", 1, 1));
+
+        final ProcessGroupStatus child = target.getProcessGroupStatus().iterator().next();
+        assertEquals(2, child.getInputCount());
+        assertEquals(2, child.getProcessorStatus().iterator().next().getInputCount());
+    }
+
+    @Test
+    public void testMergeMatchesSequentialMerge() {
+        final ProcessGroupStatusMerger merger = new ProcessGroupStatusMerger(new ForkJoinPool(4));
+        final List<ProcessGroupStatus> nodeStatuses = new ArrayList<>();
+        for (int node = 1; node <= NODE_COUNT; node++) {
+            nodeStatuses.add(createGroup("root", 3, node));
+        }
+
+        final ProcessGroupStatus merged = merger.merge(nodeStatuses);
+
+        final ProcessGroupStatus expected = nodeStatuses.get(0).clone();
+        for (int i = 1; i < NODE_COUNT; i++) {
+            ProcessGroupStatus.merge(expected, nodeStatuses.get(i));
+        }
+
+        assertGroupsEqual(expected, merged);
+        assertEquals(1, nodeStatuses.get(0).getInputCount());
+        assertEquals(1, nodeStatuses.get(0).getProcessorStatus().iterator().next().getInputCount());
+    }
+
+    @Test
+    public void testMergeReusedAcrossRefreshes() {
+        final ProcessGroupStatusMerger merger = new ProcessGroupStatusMerger();
+        assertNull(merger.merge(List.of()));
+
+        merger.merge(List.of(createGroup("root", 2, 1), createGroup("root", 2, 1)));
+        final ProcessGroupStatus merged = merger.merge(List.of(createGroup("root", 1, 2), createGroup("root", 1, 3)));
+
+        assertEquals(5, merged.getInputCount());
+        assertEquals(1, merged.getProcessGroupStatus().size());
+        final ProcessGroupStatus child = merged.getProcessGroupStatus().iterator().next();
+        assertEquals(5, child.getInputCount());
+        assertTrue(child.getProcessGroupStatus().isEmpty());
+        assertEquals(5, child.getProcessorStatus().iterator().next().getInputCount());
+    }
+
+    private static void assertGroupsEqual(final ProcessGroupStatus expected, final ProcessGroupStatus actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getInputCount(), actual.getInputCount());
+        assertEquals(expected.getQueuedContentSize(), actual.getQueuedContentSize());
+        assertEquals(expected.getActiveThreadCount(), actual.getActiveThreadCount());
+
+        final Map<String, ProcessorStatus> expectedProcessors = byId(expected.getProcessorStatus(), ProcessorStatus::getId);
+        final Map<String, ProcessorStatus> actualProcessors = byId(actual.getProcessorStatus(), ProcessorStatus::getId);
+        assertEquals(expectedProcessors.keySet(), actualProcessors.keySet());
+        expectedProcessors.forEach((id, processor) -> {
+            assertEquals(processor.getInputCount(), actualProcessors.get(id).getInputCount());
+            assertEquals(processor.getRunStatus(), actualProcessors.get(id).getRunStatus());
+        });
+
+        final Map<String, ConnectionStatus> expectedConnections = byId(expected.getConnectionStatus(), ConnectionStatus::getId);
+        final Map<String, ConnectionStatus> actualConnections = byId(actual.getConnectionStatus(), ConnectionStatus::getId);
+        assertEquals(expectedConnections.keySet(), actualConnections.keySet());
+        expectedConnections.forEach((id, connection) -> assertEquals(connection.getQueuedCount(), actualConnections.get(id).getQueuedCount()));
+
+        final Map<String, ProcessGroupStatus> expectedChildren = byId(expected.getProcessGroupStatus(), ProcessGroupStatus::getId);
+        final Map<String, ProcessGroupStatus> actualChildren = byId(actual.getProcessGroupStatus(), ProcessGroupStatus::getId);
+        assertEquals(expectedChildren.keySet(), actualChildren.keySet());
+        expectedChildren.forEach((id, child) -> assertGroupsEqual(child, actualChildren.get(id)));
+    }
+
+    private static <T> Map<String, T> byId(final Collection<T> components, final Function<T, String> idFunction) {
+        return components.stream().collect(Collectors.toMap(idFunction, Function.identity()));
+    }
+
+    private static ProcessGroupStatus createGroup(final String id, final int depth, final int value) {
+        final ProcessGroupStatus group = new ProcessGroupStatus();
+        group.setId(id);
+        group.setName(id);
+        group.setInputCount(value);
+        group.setInputContentSize((long) value);
+        group.setOutputCount(value);
+        group.setOutputContentSize((long) value);
+        group.setQueuedCount(value);
+        group.setQueuedContentSize((long) value * 10);
+        group.setBytesRead((long) value);
+        group.setBytesWritten((long) value);
+        group.setActiveThreadCount(value);
+        group.setStatelessActiveThreadCount(0);
+        group.setTerminatedThreadCount(0);
+
+        final ProcessorStatus processor = new ProcessorStatus();
+        processor.setId(id + "-processor");
+        processor.setGroupId(id);
+        processor.setInputCount(value);
+        processor.setRunStatus(value == 2 ? RunStatus.Invalid : RunStatus.Running);
+        group.setProcessorStatus(List.of(processor));
+
+        final ConnectionStatus connection = new ConnectionStatus();
+        connection.setId(id + "-connection");
+        connection.setGroupId(id);
+        connection.setQueuedCount(value);
+        group.setConnectionStatus(List.of(connection));
+
+        if (depth > 0) {
+            final List<ProcessGroupStatus> children = new ArrayList<>();
+            for (int i = 0; i < depth; i++) {
+                children.add(createGroup(id + "/" + i, depth - 1, value));
+            }
+            group.setProcessGroupStatus(children);
+        }
+
+        return group;
+    }
+}
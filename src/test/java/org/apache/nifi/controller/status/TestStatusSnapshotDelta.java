@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestStatusSnapshotDelta {
+
+    @Test
+    public void testFullDelta() {
+        final ProcessGroupStatus snapshot = createSnapshot();
+        final StatusSnapshotDelta delta = StatusSnapshotDelta.full(snapshot, 1L);
+
+        assertTrue(delta.isFull());
+        assertFalse(delta.isEmpty());
+        assertEquals(StatusSnapshotDelta.INITIAL_GENERATION, delta.getBaseGeneration());
+        assertSame(snapshot, delta.applyTo(null));
+    }
+
+    @Test
+    public void testApplyPartialDelta() {
+        final ProcessGroupStatus snapshot = createSnapshot();
+        final ProcessGroupStatus child = snapshot.getProcessGroupStatus().iterator().next();
+        final ConnectionStatus unchangedConnection = snapshot.getConnectionStatus().iterator().next();
+
+        final ProcessGroupStatus changedChild = new ProcessGroupStatus();
+        changedChild.setId("child");
+        changedChild.setName("child");
+        changedChild.setInputCount(50);
+
+        final ProcessorStatus changedProcessor = new ProcessorStatus();
+        changedProcessor.setId("child-processor");
+        changedProcessor.setInputCount(42);
+
+        final StatusSnapshotDelta delta = new StatusSnapshotDelta.Builder(1L, 2L)
+                .processGroupStatus(changedChild)
+                .processorStatus(changedProcessor)
+                .build();
+
+        assertFalse(delta.isFull());
+        assertSame(snapshot, delta.applyTo(snapshot));
+        assertEquals(50, child.getInputCount());
+        assertEquals(1, snapshot.getInputCount());
+        assertSame(changedProcessor, child.getProcessorStatus().iterator().next());
+        assertEquals(1, snapshot.getProcessorStatus().iterator().next().getInputCount());
+        assertSame(unchangedConnection, snapshot.getConnectionStatus().iterator().next());
+    }
+
+    @Test
+    public void testPartialDeltaRequiresPrevious() {
+        final StatusSnapshotDelta delta = new StatusSnapshotDelta.Builder(1L, 2L).build();
+
+        assertTrue(delta.isEmpty());
+        assertThrows(NullPointerException.class, () -> delta.applyTo(null));
+    }
+
+    private static ProcessGroupStatus createSnapshot() {
+        final ProcessGroupStatus root = createGroup("root");
+        root.setProcessGroupStatus(List.of(createGroup("child")));
+        return root;
+    }
+
+    private static ProcessGroupStatus createGroup(final String id) {
+        final ProcessGroupStatus group = new ProcessGroupStatus();
+        group.setId(id);
+        group.setName(id);
+        group.setInputCount(1);
+
+        final ProcessorStatus processor = new ProcessorStatus();
+        processor.setId(id + "-processor");
+        processor.setInputCount(1);
+        group.setProcessorStatus(List.of(processor));
+
+        final ConnectionStatus connection = new ConnectionStatus();
+        connection.setId(id + "-connection");
+        group.setConnectionStatus(List.of(connection));
+        return group;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status.analytics;
+
+import org.apache.nifi.controller.status.ConnectionStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestConnectionStatusForecaster {
+
+    @Test
+    public void testGrowingQueue() {
+        final ConnectionStatusForecaster forecaster = new ConnectionStatusForecaster(10_000L, new HoltLinearModel(1D, 1D), new HoltLinearModel(1D, 1D));
+        for (int i = 0; i <= 10; i++) {
+            forecaster.update(status(50 * i, 1024L * i), i * 1000L);
+        }
+
+        final ConnectionStatusPredictions predictions = forecaster.getConnectionStatusPredictions();
+        assertEquals(10_000L, predictions.getPredictionIntervalMillis());
+        assertEquals(1000, predictions.getNextPredictedQueuedCount());
+        assertEquals(20_480L, predictions.getNextPredictedQueuedBytes());
+        assertEquals(10_000L, predictions.getPredictedTimeToCountBackpressureMillis());
+        assertEquals(1_014_000L, predictions.getPredictedTimeToBytesBackpressureMillis());
+        assertEquals(100, predictions.getPredictedPercentCount());
+        assertEquals(2, predictions.getPredictedPercentBytes());
+
+        final Map<String, Long> predictionMap = forecaster.getPredictions();
+        assertEquals(10_000L, predictionMap.get(ConnectionStatusForecaster.TIME_TO_COUNT_BACKPRESSURE_MILLIS));
+        assertEquals(1000L, predictionMap.get(ConnectionStatusForecaster.NEXT_INTERVAL_COUNT));
+        assertEquals(0L, forecaster.getQueryWindow().getStartTimeMillis());
+        assertEquals(10_000L, forecaster.getQueryWindow().getEndTimeMillis());
+    }
+
+    @Test
+    public void testDrainingAndFullQueues() {
+        final ConnectionStatusForecaster forecaster = new ConnectionStatusForecaster(10_000L);
+        forecaster.update(status(500, 5000L), 0L);
+        forecaster.update(status(400, 4000L), 1000L);
+
+        final ConnectionStatusPredictions draining = forecaster.getConnectionStatusPredictions();
+        assertEquals(-1L, draining.getPredictedTimeToCountBackpressureMillis());
+        assertEquals(-1L, draining.getPredictedTimeToBytesBackpressureMillis());
+        assertTrue(draining.getNextPredictedQueuedCount() >= 0);
+
+        forecaster.update(status(1000, 5000L), 2000L);
+        assertEquals(0L, forecaster.getConnectionStatusPredictions().getPredictedTimeToCountBackpressureMillis());
+    }
+
+    @Test
+    public void testLateStatusDoesNotReplaceCurrentState() {
+        final ConnectionStatusForecaster forecaster = new ConnectionStatusForecaster(1000L);
+        forecaster.update(status(500, 5000L), 1000L);
+        forecaster.update(status(1000, 5000L), 2000L);
+        assertEquals(0L, forecaster.getConnectionStatusPredictions().getPredictedTimeToCountBackpressureMillis());
+
+        forecaster.update(status(10, 100L), 500L);
+
+        assertEquals(0L, forecaster.getConnectionStatusPredictions().getPredictedTimeToCountBackpressureMillis());
+        assertEquals(1000L, forecaster.getQueryWindow().getStartTimeMillis());
+        assertEquals(2000L, forecaster.getQueryWindow().getEndTimeMillis());
+    }
+
+    @Test
+    public void testSmoothedLevelAboveThreshold() {
+        final ConnectionStatusForecaster forecaster = new ConnectionStatusForecaster(1000L);
+        forecaster.update(status(0, 0L), 0L);
+        forecaster.update(status(2000, 0L), 1000L);
+        forecaster.update(status(900, 0L), 2000L);
+
+        assertEquals(0L, forecaster.getConnectionStatusPredictions().getPredictedTimeToCountBackpressureMillis());
+    }
+
+    @Test
+    public void testNoPredictionsWithoutObservations() {
+        final ConnectionStatusForecaster forecaster = new ConnectionStatusForecaster(1000L);
+        assertNull(forecaster.getConnectionStatusPredictions());
+        assertNull(forecaster.getQueryWindow());
+        assertTrue(forecaster.getPredictions().isEmpty());
+
+        forecaster.update(status(1, 1L), 0L);
+        forecaster.clear();
+        assertNull(forecaster.getConnectionStatusPredictions());
+        assertNull(forecaster.getQueryWindow());
+    }
+
+    private static ConnectionStatus status(final int queuedCount, final long queuedBytes) {
+        final ConnectionStatus status = new ConnectionStatus();
+        status.setQueuedCount(queuedCount);
+        status.setQueuedBytes(queuedBytes);
+        status.setBackPressureObjectThreshold(1000L);
+        status.setBackPressureDataSizeThreshold("1 MB");
+        return status;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestHoltLinearModel {
+
+    @Test
+    public void testTracksLinearTrend() {
+        final HoltLinearModel model = new HoltLinearModel();
+        for (int i = 0; i <= 100; i++) {
+            model.update(new double[] {i * 1000D}, 50D + 2D * i);
+        }
+
+        assertEquals(0.002D, model.getTrend(), 1E-6);
+        assertEquals(250D, model.predict(new double[] {100_000D}), 1E-3);
+        assertEquals(270D, model.predict(new Double[] {110_000D}), 1E-2);
+        assertEquals(125_000D, model.predictVariable(0, Map.of(), 300D), 10D);
+        assertEquals(101D, model.getScores().get(HoltLinearModel.OBSERVATION_COUNT_SCORE));
+    }
+
+    @Test
+    public void testIrregularIntervals() {
+        final HoltLinearModel model = new HoltLinearModel(1D, 1D);
+        model.learn(new double[][] {{0D}, {10D}, {40D}}, new double[] {0D, 10D, 40D});
+
+        assertEquals(1D, model.getTrend(), 1E-9);
+        assertEquals(50D, model.predict(new double[] {50D}), 1E-9);
+    }
+
+    @Test
+    public void testLateObservationIgnored() {
+        final HoltLinearModel model = new HoltLinearModel();
+        model.update(0D, 10D);
+        model.update(10D, 20D);
+        final double prediction = model.predict(30D);
+        final Map<String, Double> scores = model.getScores();
+
+        model.update(5D, 100D);
+
+        assertEquals(prediction, model.predict(30D));
+        assertEquals(scores, model.getScores());
+    }
+
+    @Test
+    public void testLearnMismatchedStreams() {
+        final HoltLinearModel model = new HoltLinearModel();
+        assertThrows(IllegalArgumentException.class, () -> model.learn(Stream.of(new Double[] {0D}, new Double[] {5D}), Stream.of(3D)));
+        assertThrows(IllegalArgumentException.class, () -> model.learn(Stream.<Double[]>of(new Double[] {0D}), Stream.of(3D, 8D)));
+    }
+
+    @Test
+    public void testBoxedLearnMatchesPrimitiveUpdate() {
+        final HoltLinearModel boxed = new HoltLinearModel();
+        boxed.learn(Stream.of(new Double[] {0D}, new Double[] {5D}, new Double[] {10D}), Stream.of(3D, 8D, 20D));
+
+        final HoltLinearModel primitive = new HoltLinearModel();
+        primitive.update(0D, 3D);
+        primitive.update(5D, 8D);
+        primitive.update(10D, 20D);
+
+        assertEquals(primitive.getScores(), boxed.getScores());
+    }
+
+    @Test
+    public void testNoPredictionWithoutObservations() {
+        final HoltLinearModel model = new HoltLinearModel();
+        assertNull(model.predict(new Double[] {1D}));
+        assertTrue(Double.isNaN(model.predict(new double[] {1D})));
+        assertNull(model.predictVariable(0, Map.of(), 1D));
+
+        model.update(0D, 10D);
+        model.clear();
+        assertEquals(0L, model.getObservationCount());
+        assertNull(model.predict(new Double[] {1D}));
+    }
+
+    @Test
+    public void testUnreachableValue() {
+        final HoltLinearModel model = new HoltLinearModel(1D, 1D);
+        model.update(0D, 10D);
+        model.update(10D, 5D);
+
+        assertNull(model.predictVariable(0, Map.of(), 20D));
+        assertEquals(20D, model.predictVariable(0, Map.of(), 0D), 1E-9);
+    }
+
+    @Test
+    public void testInvalidSmoothing() {
+        assertThrows(IllegalArgumentException.class, () -> new HoltLinearModel(0D, 0.5D));
+        assertThrows(IllegalArgumentException.class, () -> new HoltLinearModel(0.5D, 1.5D));
+        assertThrows(IllegalArgumentException.class, () -> new HoltLinearModel().predictVariable(1, Map.of(), 1D));
+        assertThrows(IllegalArgumentException.class, () -> new HoltLinearModel().predictVariable(null, Map.of(), 1D));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status.analytics;
+
+import org.apache.nifi.controller.status.ConnectionStatus;
+import org.apache.nifi.controller.status.ProcessGroupStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TestStatusAnalyticsEngine {
+
+    @Test
+    public void testBatchKeyedByIdWithCoveringWindow() {
+        final StatusAnalyticsEngine engine = componentId -> "missing".equals(componentId) ? null : analytics(componentId);
+
+        final StatusAnalyticsBatch batch = engine.getStatusAnalytics(Arrays.asList("10", "20", "missing", "10"));
+
+        final Map<String, StatusAnalytics> statusAnalytics = batch.getStatusAnalytics();
+        assertEquals(2, statusAnalytics.size());
+        assertEquals(10L, statusAnalytics.get("10").getPredictions().get("value"));
+        assertEquals(20L, batch.getStatusAnalytics("20").getPredictions().get("value"));
+        assertNull(batch.getStatusAnalytics("missing"));
+        assertEquals(10L, batch.getQueryWindow().getStartTimeMillis());
+        assertEquals(120L, batch.getQueryWindow().getEndTimeMillis());
+    }
+
+    @Test
+    public void testDefaultBatchIsSequentialOnCallingThread() {
+        final Thread callingThread = Thread.currentThread();
+        final List<String> requested = new ArrayList<>();
+        final StatusAnalyticsEngine engine = componentId -> {
+            assertSame(callingThread, Thread.currentThread());
+            requested.add(componentId);
+            return analytics(componentId);
+        };
+
+        engine.getStatusAnalytics(Arrays.asList("3", "1", "2", "1"));
+
+        assertEquals(List.of("3", "1", "2"), requested);
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        final StatusAnalyticsEngine engine = componentId -> null;
+
+        final StatusAnalyticsBatch batch = engine.getStatusAnalytics(Collections.emptyList());
+
+        assertEquals(0, batch.getStatusAnalytics().size());
+        assertNull(batch.getQueryWindow());
+    }
+
+    @Test
+    public void testConnectionStatusAnalyticsCoversSubtree() {
+        final StatusAnalyticsEngine engine = TestStatusAnalyticsEngine::analytics;
+
+        final ProcessGroupStatus child = new ProcessGroupStatus();
+        child.setConnectionStatus(List.of(connection("2"), connection("3")));
+        final ProcessGroupStatus root = new ProcessGroupStatus();
+        root.setConnectionStatus(List.of(connection("1")));
+        root.setProcessGroupStatus(List.of(child));
+
+        final StatusAnalyticsBatch batch = engine.getConnectionStatusAnalytics(root);
+
+        assertEquals(3, batch.getStatusAnalytics().size());
+        assertEquals(3L, batch.getStatusAnalytics("3").getPredictions().get("value"));
+        assertEquals(1L, batch.getQueryWindow().getStartTimeMillis());
+        assertEquals(103L, batch.getQueryWindow().getEndTimeMillis());
+    }
+
+    @Test
+    public void testSharedQueryWindow() {
+        final QueryWindow queryWindow = new QueryWindow(5L, 6L);
+        final StatusAnalyticsBatch batch = new StatusAnalyticsBatch(queryWindow, Map.of("1", analytics("1")));
+
+        assertSame(queryWindow, batch.getQueryWindow());
+    }
+
+    private static ConnectionStatus connection(final String id) {
+        final ConnectionStatus connectionStatus = new ConnectionStatus();
+        connectionStatus.setId(id);
+        return connectionStatus;
+    }
+
+    private static StatusAnalytics analytics(final String componentId) {
+        final long value = Long.parseLong(componentId);
+        return new StatusAnalytics() {
+            @Override
+            public QueryWindow getQueryWindow() {
+                return new QueryWindow(value, value + 100);
+            }
+
+            @Override
+            public Map<String, Long> getPredictions() {
+                return Map.of("value", value);
+            }
+
+            @Override
+            public boolean supportsOnlineLearning() {
+                return false;
+            }
+        };
+    }
+}
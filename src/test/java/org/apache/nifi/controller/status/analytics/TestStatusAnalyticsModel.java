@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller.status.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestStatusAnalyticsModel {
+
+    @Test
+    public void testPredictAdaptsToBoxedApi() {
+        final RecordingModel model = new RecordingModel(true);
+
+        assertEquals(3D, model.predict(new double[] {1D, 2D}));
+        assertEquals(7D, model.predict(DoubleBuffer.wrap(new double[] {3D, 4D})));
+        assertTrue(Double.isNaN(model.predict(new double[0])));
+    }
+
+    @Test
+    public void testLearnFromBuffers() {
+        final RecordingModel model = new RecordingModel(true);
+        final DoubleBuffer features = DoubleBuffer.wrap(new double[] {1D, 2D, 3D, 4D});
+        final DoubleBuffer labels = DoubleBuffer.wrap(new double[] {10D, 20D});
+
+        model.learn(features, 2, labels);
+
+        assertEquals(0, features.position());
+        assertEquals(2, model.features.size());
+        assertArrayEquals(new Double[] {3D, 4D}, model.features.get(1));
+        assertEquals(List.of(10D, 20D), model.labels);
+        assertThrows(IllegalArgumentException.class, () -> model.learn(features, 3, labels));
+        assertThrows(IllegalArgumentException.class, () -> model.learn(new double[1][], new double[2]));
+    }
+
+    @Test
+    public void testUpdate() {
+        final RecordingModel onlineModel = new RecordingModel(true);
+        onlineModel.update(new double[] {5D}, 6D);
+        assertArrayEquals(new Double[] {5D}, onlineModel.features.get(0));
+        assertEquals(List.of(6D), onlineModel.labels);
+
+        final RecordingModel batchModel = new RecordingModel(false);
+        assertThrows(UnsupportedOperationException.class, () -> batchModel.update(new double[] {5D}, 6D));
+    }
+
+    private static class RecordingModel implements StatusAnalyticsModel {
+        private final boolean onlineLearning;
+        private final List<Double[]> features = new ArrayList<>();
+        private final List<Double> labels = new ArrayList<>();
+
+        private RecordingModel(final boolean onlineLearning) {
+            this.onlineLearning = onlineLearning;
+        }
+
+        @Override
+        public void learn(final Stream<Double[]> features, final Stream<Double> labels) {
+            this.features.addAll(features.collect(Collectors.toList()));
+            this.labels.addAll(labels.collect(Collectors.toList()));
+        }
+
+        @Override
+        public Double predict(final Double[] feature) {
+            if (feature.length == 0) {
+                return null;
+            }
+
+            double sum = 0D;
+            for (final Double value : feature) {
+                sum += value;
+            }
+            return sum;
+        }
+
+        @Override
+        public Double predictVariable(final Integer predictVariableIndex, final Map<Integer, Double> knownVariablesWithIndex, final Double label) {
+            return null;
+        }
+
+        @Override
+        public Boolean supportsOnlineLearning() {
+            return onlineLearning;
+        }
+
+        @Override
+        public Map<String, Double> getScores() {
+            return Map.of();
+        }
+
+        @Override
+        public void clear() {
+            features.clear();
+            labels.clear();
+        }
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.nifi.documentation.xml;
 
+import org.apache.nifi.annotation.behavior.SupportsVirtualThreads;
 import org.apache.nifi.annotation.documentation.DeprecationNotice;
 import org.apache.nifi.components.ConfigurableComponent;
 import org.apache.nifi.components.PropertyDescriptor;
@@ -155,6 +156,20 @@ class XmlDocumentationWriterTest {
         assertExtensionNameTypeFound(processor, ExtensionType.PROCESSOR, document);
     }
 
+    @Test
+    void testWriteSupportsVirtualThreads() throws Exception {
+        final Document minimalDocument = writeDocumentation(new MinimalProcessor());
+        assertNull(findNode("/extension/supportsVirtualThreads", minimalDocument));
+
+        final Processor processor = new VirtualThreadsProcessor();
+        final Document document = writeDocumentation(processor);
+
+        assertExtensionNameTypeFound(processor, ExtensionType.PROCESSOR, document);
+        final Node supportsVirtualThreads = findNode("/extension/supportsVirtualThreads", document);
+        assertNotNull(supportsVirtualThreads);
+        assertEquals("true", supportsVirtualThreads.getTextContent());
+    }
+
     @Test
     void testWriteMinimalControllerService() throws Exception {
         final ControllerService controllerService = new MinimalControllerService();
@@ -366,6 +381,15 @@ class XmlDocumentationWriterTest {
         }
     }
 
+    @SupportsVirtualThreads
+    private static class VirtualThreadsProcessor extends AbstractProcessor {
+
+        @Override
+        public void onTrigger(final ProcessContext context, final ProcessSession session) throws ProcessException {
+
+        }
+    }
+
     private static class MinimalControllerService extends AbstractControllerService {
 
     }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.flowfile;
+
+import org.apache.nifi.flowfile.attributes.CoreAttributes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestFlowFile {
+
+    private static final Map<String, String> ATTRIBUTES = Map.of(
+            "filename", "file.txt",
+            "record.count", " 42 ",
+            "ratio", "0.5",
+            "epoch.millis", "1700000000000",
+            "timestamp", "2024-01-01T00:00:00Z",
+            "invalid", "not a number"
+    );
+
+    private FlowFile flowFile;
+
+    @BeforeEach
+    public void setup() {
+        flowFile = mock(FlowFile.class, Mockito.CALLS_REAL_METHODS);
+        when(flowFile.getAttributes()).thenReturn(ATTRIBUTES);
+        when(flowFile.getAttribute(Mockito.anyString())).thenAnswer(invocation -> ATTRIBUTES.get(invocation.<String>getArgument(0)));
+    }
+
+    @Test
+    public void testGetAttributeByKey() {
+        assertEquals("file.txt", flowFile.getAttribute(CoreAttributes.FILENAME));
+        assertNull(flowFile.getAttribute(CoreAttributes.MIME_TYPE));
+    }
+
+    @Test
+    public void testGetAttributeAsNumber() {
+        assertEquals(42L, flowFile.getAttributeAsLong("record.count"));
+        assertEquals(42, flowFile.getAttributeAsInteger("record.count"));
+        assertEquals(0.5D, flowFile.getAttributeAsDouble("ratio"));
+        assertNull(flowFile.getAttributeAsLong("missing"));
+        assertThrows(NumberFormatException.class, () -> flowFile.getAttributeAsLong("invalid"));
+    }
+
+    @Test
+    public void testGetAttributeAsInstant() {
+        assertEquals(Instant.ofEpochMilli(1700000000000L), flowFile.getAttributeAsInstant("epoch.millis"));
+        assertEquals(Instant.parse("2024-01-01T00:00:00Z"), flowFile.getAttributeAsInstant("timestamp"));
+        assertNull(flowFile.getAttributeAsInstant("missing"));
+        assertThrows(DateTimeParseException.class, () -> flowFile.getAttributeAsInstant("invalid"));
+    }
+
+    @Test
+    public void testForEachAttribute() {
+        final Map<String, String> visited = new HashMap<>();
+        flowFile.forEachAttribute(visited::put);
+
+        assertEquals(ATTRIBUTES, visited);
+    }
+
+    @Test
+    public void testCoreAttributesFromKey() {
+        assertEquals(CoreAttributes.MIME_TYPE, CoreAttributes.fromKey("mime.type"));
+        assertNull(CoreAttributes.fromKey("custom"));
+        assertNull(CoreAttributes.fromKey(null));
+    }
+
+    @Test
+    public void testCoreAttributesIntern() {
+        final String key = new StringBuilder("file").append("name").toString();
+
+        assertSame(CoreAttributes.FILENAME.key(), CoreAttributes.intern(key));
+        final String custom = new StringBuilder("custom").toString();
+        assertSame(custom, CoreAttributes.intern(custom));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processor;
+
+import org.apache.nifi.flowfile.FlowFile;
+import org.apache.nifi.processor.FlowFileFilter.FlowFileFilterResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestFlowFileFilters {
+
+    private static final String GROUP_ATTRIBUTE = "group";
+
+    @Test
+    public void testSizeBasedFilterStopsAtMaxBytes() {
+        final FlowFileFilter filter = FlowFileFilters.newSizeBasedFilter(100, 10);
+
+        assertEquals(FlowFileFilterResult.ACCEPT_AND_CONTINUE, filter.filter(flowFileOfSize(40)));
+        assertEquals(FlowFileFilterResult.ACCEPT_AND_CONTINUE, filter.filter(flowFileOfSize(40)));
+        assertEquals(FlowFileFilterResult.REJECT_AND_TERMINATE, filter.filter(flowFileOfSize(40)));
+    }
+
+    @Test
+    public void testSizeBasedFilterStopsAtMaxCount() {
+        final FlowFileFilter filter = FlowFileFilters.newSizeBasedFilter(100, 2);
+
+        assertEquals(FlowFileFilterResult.ACCEPT_AND_CONTINUE, filter.filter(flowFileOfSize(1)));
+        assertEquals(FlowFileFilterResult.ACCEPT_AND_TERMINATE, filter.filter(flowFileOfSize(1)));
+    }
+
+    @Test
+    public void testSizeBasedFilterAlwaysAcceptsFirst() {
+        final FlowFileFilter filter = FlowFileFilters.newSizeBasedFilter(100, 10);
+
+        assertEquals(FlowFileFilterResult.ACCEPT_AND_TERMINATE, filter.filter(flowFileOfSize(500)));
+    }
+
+    @Test
+    public void testSizeBasedFilterInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> FlowFileFilters.newSizeBasedFilter(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> FlowFileFilters.newSizeBasedFilter(100, -1));
+    }
+
+    @Test
+    public void testAttributeGroupingFilter() {
+        final FlowFileFilter filter = FlowFileFilters.newAttributeGroupingFilter(GROUP_ATTRIBUTE, 2, 2);
+
+        assertEquals(FlowFileFilterResult.ACCEPT_AND_CONTINUE, filter.filter(flowFileInGroup("a")));
+        assertEquals(FlowFileFilterResult.ACCEPT_AND_CONTINUE, filter.filter(flowFileInGroup("b")));
+        assertEquals(FlowFileFilterResult.REJECT_AND_CONTINUE, filter.filter(flowFileInGroup("c")));
+        assertEquals(FlowFileFilterResult.ACCEPT_AND_CONTINUE, filter.filter(flowFileInGroup("a")));
+        assertEquals(FlowFileFilterResult.REJECT_AND_CONTINUE, filter.filter(flowFileInGroup("a")));
+        assertEquals(FlowFileFilterResult.ACCEPT_AND_TERMINATE, filter.filter(flowFileInGroup("b")));
+    }
+
+    @Test
+    public void testAttributeGroupingFilterGroupsMissingAttribute() {
+        final FlowFileFilter filter = FlowFileFilters.newAttributeGroupingFilter(GROUP_ATTRIBUTE, 1, 2);
+
+        assertEquals(FlowFileFilterResult.ACCEPT_AND_CONTINUE, filter.filter(flowFileInGroup(null)));
+        assertEquals(FlowFileFilterResult.REJECT_AND_CONTINUE, filter.filter(flowFileInGroup("a")));
+        assertEquals(FlowFileFilterResult.ACCEPT_AND_TERMINATE, filter.filter(flowFileInGroup(null)));
+    }
+
+    private FlowFile flowFileOfSize(final long size) {
+        final FlowFile flowFile = mock(FlowFile.class);
+        when(flowFile.getSize()).thenReturn(size);
+        return flowFile;
+    }
+
+    private FlowFile flowFileInGroup(final String group) {
+        final FlowFile flowFile = mock(FlowFile.class);
+        when(flowFile.getAttribute(GROUP_ATTRIBUTE)).thenReturn(group);
+        return flowFile;
+    }
+}
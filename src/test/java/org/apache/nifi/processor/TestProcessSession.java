@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processor;
+
+import org.apache.nifi.flowfile.FlowFile;
+import org.apache.nifi.processor.exception.FlowFileAccessException;
+import org.apache.nifi.processor.io.InputStreamCallback;
+import org.apache.nifi.processor.io.OutputStreamCallback;
+import org.apache.nifi.processor.metrics.CommitTiming;
+import org.apache.nifi.processor.metrics.StandardCounterHandle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestProcessSession {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    private ProcessSession session;
+    private FlowFile flowFile;
+
+    @BeforeEach
+    public void setup() {
+        session = mock(ProcessSession.class, Mockito.CALLS_REAL_METHODS);
+        flowFile = mock(FlowFile.class);
+        when(flowFile.getSize()).thenReturn((long) CONTENT.length);
+
+        doAnswer(invocation -> new ByteArrayInputStream(CONTENT)).when(session).read(any(FlowFile.class));
+        doAnswer(invocation -> {
+            final InputStreamCallback callback = invocation.getArgument(1);
+            callback.process(new ByteArrayInputStream(CONTENT));
+            return null;
+        }).when(session).read(any(FlowFile.class), any(InputStreamCallback.class));
+    }
+
+    @Test
+    public void testReadChannel() {
+        final ByteBuffer buffer = ByteBuffer.allocate(CONTENT.length);
+        session.readChannel(flowFile, channel -> {
+            while (channel.read(buffer) >= 0) {
+                if (!buffer.hasRemaining()) {
+                    break;
+                }
+            }
+        });
+
+        assertArrayEquals(CONTENT, buffer.array());
+    }
+
+    @Test
+    public void testWriteChannel() {
+        final FlowFile updated = mock(FlowFile.class);
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            final OutputStreamCallback callback = invocation.getArgument(1);
+            callback.process(written);
+            return updated;
+        }).when(session).write(any(FlowFile.class), any(OutputStreamCallback.class));
+
+        final FlowFile result = session.writeChannel(flowFile, channel -> channel.write(ByteBuffer.wrap(CONTENT)));
+
+        assertSame(updated, result);
+        assertArrayEquals(CONTENT, written.toByteArray());
+    }
+
+    @Test
+    public void testImportFromChannel() {
+        final FlowFile updated = mock(FlowFile.class);
+        final AtomicReference<byte[]> imported = new AtomicReference<>();
+        doAnswer(invocation -> {
+            final InputStream in = invocation.getArgument(0);
+            imported.set(in.readAllBytes());
+            return updated;
+        }).when(session).importFrom(any(InputStream.class), eq(flowFile));
+
+        final FlowFile result = session.importFrom(Channels.newChannel(new ByteArrayInputStream(CONTENT)), flowFile);
+
+        assertSame(updated, result);
+        assertArrayEquals(CONTENT, imported.get());
+    }
+
+    @Test
+    public void testExportToChannel() {
+        doAnswer(invocation -> {
+            final OutputStream out = invocation.getArgument(1);
+            out.write(CONTENT);
+            return null;
+        }).when(session).exportTo(eq(flowFile), any(OutputStream.class));
+
+        final ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        session.exportTo(flowFile, Channels.newChannel(exported));
+
+        assertArrayEquals(CONTENT, exported.toByteArray());
+    }
+
+    @Test
+    public void testReadRangeWithCallback() {
+        final AtomicReference<byte[]> bytesRead = new AtomicReference<>();
+        session.read(flowFile, 2, 5, in -> bytesRead.set(in.readAllBytes()));
+
+        assertEquals("23456", new String(bytesRead.get(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testReadRangeAsStream() throws IOException {
+        try (final InputStream in = session.read(flowFile, 7, 3)) {
+            assertEquals("789", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void testReadRangeEmpty() throws IOException {
+        try (final InputStream in = session.read(flowFile, CONTENT.length, 0)) {
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void testReadRangeOutOfBounds() {
+        assertThrows(IllegalArgumentException.class, () -> session.read(flowFile, 8, 3));
+        assertThrows(IllegalArgumentException.class, () -> session.read(flowFile, -1, 3));
+        assertThrows(IllegalArgumentException.class, () -> session.read(flowFile, 0, -1, in -> { }));
+        assertThrows(IllegalArgumentException.class, () -> session.read(flowFile, 1, Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> session.read(flowFile, Long.MAX_VALUE, 1, in -> { }));
+    }
+
+    @Test
+    public void testMapContent() {
+        final ByteBuffer buffer = session.mapContent(flowFile);
+
+        assertTrue(buffer.isReadOnly());
+        assertEquals(CONTENT.length, buffer.remaining());
+
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertArrayEquals(CONTENT, bytes);
+    }
+
+    @Test
+    public void testReadAsync() {
+        final AtomicReference<byte[]> bytesRead = new AtomicReference<>();
+        final CompletableFuture<Void> future = session.readAsync(flowFile, in -> bytesRead.set(in.readAllBytes()));
+
+        assertTrue(future.isDone());
+        assertArrayEquals(CONTENT, bytesRead.get());
+    }
+
+    @Test
+    public void testReadAsyncFailure() {
+        final FlowFileAccessException exception = new FlowFileAccessException("Content not available");
+        doThrow(exception).when(session).read(any(FlowFile.class), any(InputStreamCallback.class));
+
+        final CompletableFuture<Void> future = session.readAsync(flowFile, in -> { });
+
+        assertTrue(future.isCompletedExceptionally());
+        final ExecutionException executionException = assertThrows(ExecutionException.class, future::get);
+        assertSame(exception, executionException.getCause());
+    }
+
+    @Test
+    public void testCommitAsyncWithMaxLatency() {
+        final Runnable onSuccess = () -> { };
+        final Consumer<Throwable> onFailure = failure -> { };
+        doAnswer(invocation -> null).when(session).commitAsync(any(Runnable.class), any());
+
+        session.commitAsync(onSuccess, onFailure, Duration.ofMillis(10));
+
+        verify(session).commitAsync(onSuccess, onFailure);
+    }
+
+    @Test
+    public void testCommitAsyncWithInvalidMaxLatency() {
+        assertThrows(IllegalArgumentException.class, () -> session.commitAsync(null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> session.commitAsync(null, null, Duration.ofMillis(-1)));
+        verify(session, never()).commitAsync(any(), any());
+    }
+
+    @Test
+    public void testAdjustCounterWithHandle() {
+        doAnswer(invocation -> null).when(session).adjustCounter(any(String.class), anyLong(), anyBoolean());
+
+        session.adjustCounter(new StandardCounterHandle("Records"), 5, CommitTiming.NOW);
+        session.adjustCounter(new StandardCounterHandle("Records"), -2, CommitTiming.SESSION_COMMITTED);
+
+        verify(session).adjustCounter("Records", 5, true);
+        verify(session).adjustCounter("Records", -2, false);
+    }
+
+    @Test
+    public void testPutAllAttributesForCollection() {
+        final FlowFile first = mock(FlowFile.class);
+        final FlowFile second = mock(FlowFile.class);
+        final FlowFile firstUpdated = mock(FlowFile.class);
+        final FlowFile secondUpdated = mock(FlowFile.class);
+        when(first.getAttribute("id")).thenReturn("1");
+        when(second.getAttribute("id")).thenReturn("2");
+        doReturn(firstUpdated).when(session).putAllAttributes(first, Map.of("copy", "1"));
+        doReturn(secondUpdated).when(session).putAllAttributes(second, Map.of("copy", "2"));
+
+        final List<FlowFile> updated = session.putAllAttributes(List.of(first, second), flowFile -> Map.of("copy", flowFile.getAttribute("id")));
+
+        assertEquals(List.of(firstUpdated, secondUpdated), updated);
+    }
+
+    @Test
+    public void testPutAllAttributesForCollectionUnchanged() {
+        final List<FlowFile> updated = session.putAllAttributes(List.of(flowFile), ignored -> Map.of());
+
+        assertEquals(List.of(flowFile), updated);
+        verify(session, never()).putAllAttributes(any(FlowFile.class), anyMap());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processor.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestContentDigest {
+
+    private static final byte[] CONTENT = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testOutputStreamCallback() throws IOException, NoSuchAlgorithmException {
+        final ContentDigest contentDigest = ContentDigest.of("SHA-256", ContentDigest.CRC32C);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        contentDigest.wrap((OutputStreamCallback) stream -> {
+            stream.write(CONTENT[0]);
+            stream.write(CONTENT, 1, CONTENT.length - 1);
+        }).process(out);
+
+        assertArrayEquals(CONTENT, out.toByteArray());
+        assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(CONTENT), contentDigest.getDigest("SHA-256"));
+        assertEquals(expectedCrc32c(), contentDigest.getHexDigest(ContentDigest.CRC32C));
+    }
+
+    @Test
+    public void testStreamCallback() throws IOException, NoSuchAlgorithmException {
+        final ContentDigest contentDigest = ContentDigest.of("MD5");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        contentDigest.wrap((StreamCallback) (in, stream) -> in.transferTo(stream)).process(new ByteArrayInputStream(CONTENT), out);
+
+        assertArrayEquals(CONTENT, out.toByteArray());
+        assertArrayEquals(MessageDigest.getInstance("MD5").digest(CONTENT), contentDigest.getDigest("MD5"));
+    }
+
+    @Test
+    public void testDigestsResetOnEachWrite() throws IOException, NoSuchAlgorithmException {
+        final ContentDigest contentDigest = ContentDigest.of("SHA-256");
+        final OutputStreamCallback callback = contentDigest.wrap((OutputStreamCallback) stream -> stream.write(CONTENT));
+
+        callback.process(new ByteArrayOutputStream());
+        callback.process(new ByteArrayOutputStream());
+
+        assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(CONTENT), contentDigest.getDigest("SHA-256"));
+    }
+
+    @Test
+    public void testDigestsClearedWhenWriteFails() throws IOException {
+        final ContentDigest contentDigest = ContentDigest.of("SHA-256");
+        contentDigest.wrap((OutputStreamCallback) stream -> stream.write(CONTENT)).process(new ByteArrayOutputStream());
+
+        final OutputStreamCallback failing = contentDigest.wrap((OutputStreamCallback) stream -> {
+            throw new IOException("Write failed");
+        });
+
+        assertThrows(IOException.class, () -> failing.process(new ByteArrayOutputStream()));
+        assertNull(contentDigest.getDigest("SHA-256"));
+    }
+
+    @Test
+    public void testInputStream() throws IOException, NoSuchAlgorithmException {
+        final ContentDigest contentDigest = ContentDigest.of("SHA-256", ContentDigest.CRC32C);
+
+        try (final InputStream in = contentDigest.wrap(new ByteArrayInputStream(CONTENT))) {
+            assertEquals(CONTENT[0], in.read());
+            assertEquals(4, in.skip(4));
+            in.readAllBytes();
+        }
+
+        assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(CONTENT), contentDigest.getDigest("SHA-256"));
+        assertEquals(expectedCrc32c(), contentDigest.getHexDigest(ContentDigest.CRC32C));
+    }
+
+    @Test
+    public void testInputStreamNotReadToEnd() throws IOException {
+        final ContentDigest contentDigest = ContentDigest.of("SHA-256");
+
+        try (final InputStream in = contentDigest.wrap(new ByteArrayInputStream(CONTENT))) {
+            assertEquals(CONTENT[0], in.read());
+        }
+
+        assertNull(contentDigest.getDigest("SHA-256"));
+    }
+
+    @Test
+    public void testToAttributes() throws IOException {
+        final ContentDigest contentDigest = ContentDigest.of(ContentDigest.CRC32C);
+        assertEquals(Map.of(), contentDigest.toAttributes("content"));
+        assertNull(contentDigest.getDigest(ContentDigest.CRC32C));
+
+        contentDigest.wrap((OutputStreamCallback) stream -> stream.write(CONTENT)).process(new ByteArrayOutputStream());
+
+        assertEquals(Map.of("content.crc32c", expectedCrc32c()), contentDigest.toAttributes("content"));
+        assertEquals(List.of(ContentDigest.CRC32C), contentDigest.getAlgorithms());
+    }
+
+    @Test
+    public void testUnsupportedAlgorithm() {
+        assertThrows(IllegalArgumentException.class, () -> ContentDigest.of("NOT-AN-ALGORITHM"));
+        assertThrows(IllegalArgumentException.class, ContentDigest::of);
+    }
+
+    private String expectedCrc32c() {
+        final CRC32C crc32c = new CRC32C();
+        crc32c.update(CONTENT);
+        return "%08x".formatted(crc32c.getValue());
+    }
+}
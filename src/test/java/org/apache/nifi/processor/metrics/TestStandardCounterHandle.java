@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processor.metrics;
+
+import org.apache.nifi.processor.ProcessContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+public class TestStandardCounterHandle {
+
+    @Test
+    public void testEqualityByName() {
+        final CounterHandle handle = new StandardCounterHandle("Records Processed");
+
+        assertEquals("Records Processed", handle.getName());
+        assertEquals(new StandardCounterHandle("Records Processed"), handle);
+        assertEquals(new StandardCounterHandle("Records Processed").hashCode(), handle.hashCode());
+        assertNotEquals(new StandardCounterHandle("Records Failed"), handle);
+    }
+
+    @Test
+    public void testNameRequired() {
+        assertThrows(NullPointerException.class, () -> new StandardCounterHandle(null));
+    }
+
+    @Test
+    public void testProcessContextDefaultHandle() {
+        final ProcessContext context = mock(ProcessContext.class, Mockito.CALLS_REAL_METHODS);
+
+        assertEquals(new StandardCounterHandle("Records Processed"), context.getCounterHandle("Records Processed"));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.provenance;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestAttributeDelta {
+
+    private static final Map<String, String> PREVIOUS = Map.of("filename", "a.txt", "path", "/", "mime.type", "text/plain");
+
+    @Test
+    public void testAttributesView() {
+        final Map<String, String> updated = new HashMap<>();
+        updated.put("filename", "b.txt");
+        updated.put("path", null);
+        updated.put("size", "10");
+
+        final AttributeDelta delta = AttributeDelta.of(PREVIOUS, updated);
+        final Map<String, String> expected = Map.of("filename", "b.txt", "mime.type", "text/plain", "size", "10");
+
+        assertEquals(expected, delta.getAttributes());
+        assertEquals(expected.size(), delta.getAttributes().size());
+        assertEquals(PREVIOUS, delta.getPreviousAttributes());
+        assertEquals(updated, delta.getUpdatedAttributes());
+        assertEquals("b.txt", delta.getAttribute("filename"));
+        assertNull(delta.getAttribute("path"));
+        assertFalse(delta.getAttributes().containsKey("path"));
+        assertThrows(UnsupportedOperationException.class, () -> delta.getAttributes().put("other", "value"));
+    }
+
+    @Test
+    public void testNoUpdatesSharesPreviousAttributes() {
+        final AttributeDelta delta = AttributeDelta.of(PREVIOUS, Map.of());
+
+        assertSame(delta.getPreviousAttributes(), delta.getAttributes());
+        assertTrue(delta.getUpdatedAttributes().isEmpty());
+    }
+
+    @Test
+    public void testBetween() {
+        final Map<String, String> current = Map.of("filename", "a.txt", "mime.type", "application/json", "size", "10");
+        final AttributeDelta delta = AttributeDelta.between(PREVIOUS, current);
+
+        final Map<String, String> expectedUpdates = new HashMap<>();
+        expectedUpdates.put("mime.type", "application/json");
+        expectedUpdates.put("path", null);
+        expectedUpdates.put("size", "10");
+
+        assertEquals(expectedUpdates, delta.getUpdatedAttributes());
+        assertEquals(current, delta.getAttributes());
+    }
+
+    @Test
+    public void testUpdate() {
+        final AttributeDelta first = AttributeDelta.of(PREVIOUS, Map.of("filename", "b.txt"));
+        final AttributeDelta second = first.update(Map.of("filename", "c.txt", "size", "10"));
+
+        assertSame(first.getPreviousAttributes(), second.getPreviousAttributes());
+        assertEquals("b.txt", first.getAttribute("filename"));
+        assertEquals(Map.of("filename", "c.txt", "path", "/", "mime.type", "text/plain", "size", "10"), second.getAttributes());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.provenance;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestProvenanceEventCoalescer {
+
+    @Test
+    public void testCoalesceAttributesAndContent() {
+        final ProvenanceEventRecord earlier = createEvent("1", ProvenanceEventType.ATTRIBUTES_MODIFIED, Map.of("a", "1"), Map.of("a", "2"), "first", 10L);
+        final ProvenanceEventRecord later = createEvent("1", ProvenanceEventType.CONTENT_MODIFIED, Map.of("a", "2"), Map.of("b", "3"), "second", 20L);
+        when(earlier.getPreviousContentClaimIdentifier()).thenReturn("claim-1");
+        when(earlier.getPreviousContentClaimOffset()).thenReturn(5L);
+        when(earlier.getPreviousFileSize()).thenReturn(100L);
+
+        final ProvenanceEventBuilder builder = createBuilder();
+        ProvenanceEventCoalescer.coalesce(earlier, later, builder);
+
+        verify(builder).fromEvent(later);
+        verify(builder).setEventType(ProvenanceEventType.CONTENT_MODIFIED);
+        verify(builder).setEventDuration(30L);
+        verify(builder).setDetails("first; second");
+        verify(builder).setPreviousContentClaim(null, null, "claim-1", 5L, 100L);
+
+        final ArgumentCaptor<AttributeDelta> deltaCaptor = ArgumentCaptor.forClass(AttributeDelta.class);
+        verify(builder).setAttributes(deltaCaptor.capture());
+        final AttributeDelta delta = deltaCaptor.getValue();
+        assertEquals(Map.of("a", "1"), delta.getPreviousAttributes());
+        assertEquals(Map.of("a", "2", "b", "3"), delta.getUpdatedAttributes());
+    }
+
+    @Test
+    public void testCoalesceRejectsOtherEvents() {
+        final ProvenanceEventRecord attributes = createEvent("1", ProvenanceEventType.ATTRIBUTES_MODIFIED, Map.of(), Map.of(), null, -1L);
+        final ProvenanceEventRecord route = createEvent("1", ProvenanceEventType.ROUTE, Map.of(), Map.of(), null, -1L);
+        final ProvenanceEventRecord otherFlowFile = createEvent("2", ProvenanceEventType.ATTRIBUTES_MODIFIED, Map.of(), Map.of(), null, -1L);
+
+        assertThrows(IllegalArgumentException.class, () -> ProvenanceEventCoalescer.coalesce(attributes, route, createBuilder()));
+        assertThrows(IllegalArgumentException.class, () -> ProvenanceEventCoalescer.coalesce(attributes, otherFlowFile, createBuilder()));
+    }
+
+    @Test
+    public void testCoalesceSessionEvents() {
+        final ProvenanceEventRecord first = createEvent("1", ProvenanceEventType.ATTRIBUTES_MODIFIED, Map.of(), Map.of("a", "1"), null, -1L);
+        final ProvenanceEventRecord other = createEvent("2", ProvenanceEventType.ATTRIBUTES_MODIFIED, Map.of(), Map.of("a", "1"), null, -1L);
+        final ProvenanceEventRecord second = createEvent("1", ProvenanceEventType.CONTENT_MODIFIED, Map.of("a", "1"), Map.of(), null, -1L);
+        final ProvenanceEventRecord route = createEvent("1", ProvenanceEventType.ROUTE, Map.of("a", "1"), Map.of(), null, -1L);
+        final ProvenanceEventRecord third = createEvent("1", ProvenanceEventType.ATTRIBUTES_MODIFIED, Map.of("a", "1"), Map.of("b", "2"), null, -1L);
+
+        final ProvenanceEventRecord coalesced = mock(ProvenanceEventRecord.class);
+        final ProvenanceEventBuilder builder = createBuilder();
+        when(builder.build()).thenReturn(coalesced);
+
+        final List<ProvenanceEventRecord> results = ProvenanceEventCoalescer.coalesce(List.of(first, other, second, route, third), () -> builder);
+
+        assertEquals(List.of(coalesced, other, route, third), results);
+        verify(builder).fromEvent(second);
+        assertSame(third, results.get(3));
+    }
+
+    private static ProvenanceEventBuilder createBuilder() {
+        final ProvenanceEventBuilder builder = mock(ProvenanceEventBuilder.class, RETURNS_SELF);
+        when(builder.setAttributes(any(AttributeDelta.class))).thenReturn(builder);
+        return builder;
+    }
+
+    private static ProvenanceEventRecord createEvent(final String flowFileUuid, final ProvenanceEventType eventType, final Map<String, String> previousAttributes,
+                                                     final Map<String, String> updatedAttributes, final String details, final long duration) {
+        final ProvenanceEventRecord event = mock(ProvenanceEventRecord.class, CALLS_REAL_METHODS);
+        when(event.getFlowFileUuid()).thenReturn(flowFileUuid);
+        when(event.getEventType()).thenReturn(eventType);
+        when(event.getPreviousAttributes()).thenReturn(previousAttributes);
+        when(event.getUpdatedAttributes()).thenReturn(updatedAttributes);
+        when(event.getDetails()).thenReturn(details);
+        when(event.getEventDuration()).thenReturn(duration);
+        when(event.getParentUuids()).thenReturn(List.of());
+        return event;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.provenance;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestProvenanceEventFilter {
+
+    private static final int EVENT_COUNT = 2500;
+
+    private final List<ProvenanceEventRecord> events = new ArrayList<>();
+    private ProvenanceEventRepository repository;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            final ProvenanceEventType eventType = i % 2 == 0 ? ProvenanceEventType.ROUTE : ProvenanceEventType.SEND;
+            events.add(createEvent(i, eventType, "component-" + (i % 5), 1000L + i, Map.of("index", String.valueOf(i))));
+        }
+
+        repository = mock(ProvenanceEventRepository.class, CALLS_REAL_METHODS);
+        when(repository.getEvents(anyLong(), anyInt())).thenAnswer(invocation -> {
+            final int first = (int) Math.min(invocation.<Long>getArgument(0), EVENT_COUNT);
+            final int max = invocation.getArgument(1);
+            return events.subList(first, Math.min(EVENT_COUNT, first + max));
+        });
+    }
+
+    @Test
+    public void testMatches() {
+        final ProvenanceEventRecord event = createEvent(1L, ProvenanceEventType.SEND, "component-1", 2000L, Map.of("filename", "a.txt"));
+
+        assertTrue(ProvenanceEventFilter.ALL.matches(event));
+        assertTrue(new ProvenanceEventFilter.Builder().eventType(ProvenanceEventType.SEND).componentId("component-1").build().matches(event));
+        assertTrue(new ProvenanceEventFilter.Builder().timeRange(2000L, 2000L).attribute("filename", "a.txt").build().matches(event));
+
+        assertFalse(new ProvenanceEventFilter.Builder().eventType(ProvenanceEventType.ROUTE).build().matches(event));
+        assertFalse(new ProvenanceEventFilter.Builder().componentId("component-2").build().matches(event));
+        assertFalse(new ProvenanceEventFilter.Builder().timeRange(0L, 1999L).build().matches(event));
+        assertFalse(new ProvenanceEventFilter.Builder().attribute("filename", "b.txt").build().matches(event));
+        assertFalse(new ProvenanceEventFilter.Builder().attribute("path", "a.txt").build().matches(event));
+    }
+
+    @Test
+    public void testInvalidTimeRange() {
+        assertThrows(IllegalArgumentException.class, () -> new ProvenanceEventFilter.Builder().timeRange(2L, 1L));
+    }
+
+    @Test
+    public void testCursorSpansPages() throws IOException {
+        final ProvenanceEventFilter filter = new ProvenanceEventFilter.Builder()
+                .eventType(ProvenanceEventType.SEND)
+                .componentId("component-1")
+                .build();
+
+        final List<Long> eventIds = new ArrayList<>();
+        try (final ProvenanceEventCursor cursor = repository.getEventCursor(100L, filter)) {
+            cursor.forEachRemaining(event -> eventIds.add(event.getEventId()));
+            assertThrows(NoSuchElementException.class, cursor::next);
+        }
+
+        assertEquals(240, eventIds.size());
+        assertEquals(101L, eventIds.get(0));
+        assertEquals(2491L, eventIds.get(eventIds.size() - 1));
+        for (final long eventId : eventIds) {
+            assertEquals(1L, eventId % 10);
+        }
+    }
+
+    @Test
+    public void testCursorClose() throws IOException {
+        final ProvenanceEventCursor cursor = repository.getEventCursor(0L, ProvenanceEventFilter.ALL);
+        assertTrue(cursor.hasNext());
+        assertEquals(0L, cursor.next().getEventId());
+
+        cursor.close();
+        assertFalse(cursor.hasNext());
+    }
+
+    private static ProvenanceEventRecord createEvent(final long eventId, final ProvenanceEventType eventType, final String componentId,
+                                                     final long eventTime, final Map<String, String> attributes) {
+        final ProvenanceEventRecord event = mock(ProvenanceEventRecord.class, CALLS_REAL_METHODS);
+        when(event.getEventId()).thenReturn(eventId);
+        when(event.getEventType()).thenReturn(eventType);
+        when(event.getComponentId()).thenReturn(componentId);
+        when(event.getEventTime()).thenReturn(eventTime);
+        when(event.getAttributes()).thenReturn(attributes);
+        return event;
+    }
+}
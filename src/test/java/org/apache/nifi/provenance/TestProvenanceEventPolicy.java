@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.provenance;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestProvenanceEventPolicy {
+
+    private static final int FLOWFILE_COUNT = 100_000;
+
+    @Test
+    public void testRecordAll() {
+        final ProvenanceEventPolicy policy = ProvenanceEventPolicy.RECORD_ALL;
+
+        assertTrue(policy.isRecordingAll());
+        for (final ProvenanceEventType eventType : ProvenanceEventType.values()) {
+            assertTrue(policy.shouldRecord(eventType, 1L));
+        }
+    }
+
+    @Test
+    public void testExclude() {
+        final ProvenanceEventPolicy policy = new ProvenanceEventPolicy.Builder()
+                .exclude(ProvenanceEventType.ROUTE)
+                .build();
+
+        assertFalse(policy.isRecordingAll());
+        for (long flowFileId = 0; flowFileId < 100; flowFileId++) {
+            assertFalse(policy.shouldRecord(ProvenanceEventType.ROUTE, flowFileId));
+            assertTrue(policy.shouldRecord(ProvenanceEventType.SEND, flowFileId));
+        }
+    }
+
+    @Test
+    public void testSampleRate() {
+        final ProvenanceEventPolicy policy = new ProvenanceEventPolicy.Builder()
+                .sampleRate(ProvenanceEventType.ATTRIBUTES_MODIFIED, 0.25D)
+                .sampleRate(ProvenanceEventType.ROUTE, 0.25D)
+                .build();
+
+        int recorded = 0;
+        for (long flowFileId = 0; flowFileId < FLOWFILE_COUNT; flowFileId++) {
+            final boolean attributesModifiedRecorded = policy.shouldRecord(ProvenanceEventType.ATTRIBUTES_MODIFIED, flowFileId);
+            if (attributesModifiedRecorded) {
+                recorded++;
+            }
+
+            assertEquals(attributesModifiedRecorded, policy.shouldRecord(ProvenanceEventType.ROUTE, flowFileId));
+            assertTrue(policy.shouldRecord(ProvenanceEventType.RECEIVE, flowFileId));
+            assertTrue(policy.shouldRecord(ProvenanceEventType.DROP, flowFileId));
+        }
+
+        assertEquals(0.25D, (double) recorded / FLOWFILE_COUNT, 0.01D);
+    }
+
+    @Test
+    public void testMandatoryEventTypesCannotBeSampled() {
+        final ProvenanceEventPolicy.Builder builder = new ProvenanceEventPolicy.Builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.exclude(ProvenanceEventType.SEND));
+        assertThrows(IllegalArgumentException.class, () -> builder.sampleRate(ProvenanceEventType.RECEIVE, 0.5D));
+        assertThrows(IllegalArgumentException.class, () -> builder.sampleRate(ProvenanceEventType.DROP, 0.5D));
+    }
+
+    @Test
+    public void testContentModifiedAlwaysRecorded() {
+        assertFalse(ProvenanceEventPolicy.isSampleable(ProvenanceEventType.CONTENT_MODIFIED));
+        assertThrows(IllegalArgumentException.class, () -> new ProvenanceEventPolicy.Builder().exclude(ProvenanceEventType.CONTENT_MODIFIED));
+
+        final ProvenanceEventPolicy policy = new ProvenanceEventPolicy.Builder()
+                .exclude(ProvenanceEventType.ROUTE)
+                .exclude(ProvenanceEventType.ATTRIBUTES_MODIFIED)
+                .exclude(ProvenanceEventType.ADDINFO)
+                .build();
+        for (long flowFileId = 0; flowFileId < 100; flowFileId++) {
+            assertTrue(policy.shouldRecord(ProvenanceEventType.CONTENT_MODIFIED, flowFileId));
+        }
+    }
+
+    @Test
+    public void testInvalidSampleRate() {
+        final ProvenanceEventPolicy.Builder builder = new ProvenanceEventPolicy.Builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.sampleRate(ProvenanceEventType.ROUTE, 1.5D));
+        assertThrows(IllegalArgumentException.class, () -> builder.sampleRate(ProvenanceEventType.ROUTE, -0.1D));
+        assertThrows(IllegalArgumentException.class, () -> builder.sampleRate(ProvenanceEventType.ROUTE, Double.NaN));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.provenance;
+
+import org.apache.nifi.flowfile.FlowFile;
+import org.apache.nifi.processor.Relationship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class TestProvenanceReporter {
+
+    private static final String TRANSIT_URI = "http://localhost/content";
+    private static final String DETAILS = "details";
+    private static final Relationship SUCCESS = new Relationship.Builder().name("success").build();
+
+    private ProvenanceReporter reporter;
+    private FlowFile first;
+    private FlowFile second;
+
+    @BeforeEach
+    public void setup() {
+        reporter = mock(ProvenanceReporter.class, Mockito.CALLS_REAL_METHODS);
+        first = mock(FlowFile.class);
+        second = mock(FlowFile.class);
+    }
+
+    @Test
+    public void testSendCollection() {
+        doNothing().when(reporter).send(any(FlowFile.class), anyString());
+        doNothing().when(reporter).send(any(FlowFile.class), anyString(), anyString(), anyLong());
+
+        reporter.send(List.of(first, second), TRANSIT_URI);
+        reporter.send(List.of(first, second), TRANSIT_URI, DETAILS, 5L);
+
+        verify(reporter).send(first, TRANSIT_URI);
+        verify(reporter).send(second, TRANSIT_URI);
+        verify(reporter).send(first, TRANSIT_URI, DETAILS, 5L);
+        verify(reporter).send(second, TRANSIT_URI, DETAILS, 5L);
+    }
+
+    @Test
+    public void testModifyContentCollection() {
+        doNothing().when(reporter).modifyContent(any(FlowFile.class), anyString());
+
+        reporter.modifyContent(List.of(first, second), DETAILS);
+
+        verify(reporter).modifyContent(first, DETAILS);
+        verify(reporter).modifyContent(second, DETAILS);
+    }
+
+    @Test
+    public void testModifyAttributesCollection() {
+        doNothing().when(reporter).modifyAttributes(any(FlowFile.class));
+        doNothing().when(reporter).modifyAttributes(any(FlowFile.class), anyString());
+
+        reporter.modifyAttributes(List.of(first, second));
+        reporter.modifyAttributes(List.of(first, second), DETAILS);
+
+        verify(reporter).modifyAttributes(first);
+        verify(reporter).modifyAttributes(second);
+        verify(reporter).modifyAttributes(first, DETAILS);
+        verify(reporter).modifyAttributes(second, DETAILS);
+    }
+
+    @Test
+    public void testRouteCollection() {
+        doNothing().when(reporter).route(any(FlowFile.class), any(Relationship.class));
+        doNothing().when(reporter).route(any(FlowFile.class), any(Relationship.class), anyString());
+
+        reporter.route(List.of(first, second), SUCCESS);
+        reporter.route(List.of(first, second), SUCCESS, DETAILS);
+
+        verify(reporter).route(first, SUCCESS);
+        verify(reporter).route(second, SUCCESS);
+        verify(reporter).route(first, SUCCESS, DETAILS);
+        verify(reporter).route(second, SUCCESS, DETAILS);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.provenance;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestRingBufferProvenanceEventRepository {
+
+    @Test
+    public void testCapacityRoundedUp() {
+        assertEquals(1, new RingBufferProvenanceEventRepository(1, () -> null).getCapacity());
+        assertEquals(16, new RingBufferProvenanceEventRepository(10, () -> null).getCapacity());
+        assertEquals(16, new RingBufferProvenanceEventRepository(16, () -> null).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferProvenanceEventRepository(0, () -> null));
+    }
+
+    @Test
+    public void testRegisterAndGetEvents() {
+        final RingBufferProvenanceEventRepository repository = new RingBufferProvenanceEventRepository(16, () -> null);
+        assertNull(repository.getMaxEventId());
+        assertTrue(repository.getEvents(0L, 10).isEmpty());
+
+        final ProvenanceEventRecord event = createEvent("1");
+        repository.registerEvent(event);
+        repository.registerEvents(List.of(createEvent("2"), createEvent("3")));
+
+        assertEquals(2L, repository.getMaxEventId());
+        final List<ProvenanceEventRecord> events = repository.getEvents(1L, 10);
+        assertEquals(2, events.size());
+        assertEquals(1L, events.get(0).getEventId());
+        assertEquals("2", events.get(0).getFlowFileUuid());
+        assertEquals("3", events.get(1).getFlowFileUuid());
+
+        assertEquals(0L, repository.getEvent(0L).getEventId());
+        assertSame(ProvenanceEventType.SEND, repository.getEvent(0L).getEventType());
+        assertNull(repository.getEvent(3L));
+    }
+
+    @Test
+    public void testOldestEventsEvicted() {
+        final RingBufferProvenanceEventRepository repository = new RingBufferProvenanceEventRepository(4, () -> null);
+        for (int i = 0; i < 10; i++) {
+            repository.registerEvent(createEvent(String.valueOf(i)));
+        }
+
+        assertEquals(9L, repository.getMaxEventId());
+        assertNull(repository.getEvent(5L));
+        final List<ProvenanceEventRecord> events = repository.getEvents(0L, 100);
+        assertEquals(4, events.size());
+        assertEquals(6L, events.get(0).getEventId());
+        assertEquals(9L, events.get(3).getEventId());
+    }
+
+    @Test
+    public void testConcurrentRegistration() throws Exception {
+        final int threads = 8;
+        final int batches = 500;
+        final int batchSize = 5;
+        final RingBufferProvenanceEventRepository repository = new RingBufferProvenanceEventRepository(threads * batches * batchSize, () -> null);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int b = 0; b < batches; b++) {
+                        final List<ProvenanceEventRecord> batch = new ArrayList<>();
+                        for (int i = 0; i < batchSize; i++) {
+                            batch.add(createEvent(Thread.currentThread().getName()));
+                        }
+                        repository.registerEvents(batch);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        final int total = threads * batches * batchSize;
+        assertEquals(total - 1, repository.getMaxEventId());
+
+        final List<ProvenanceEventRecord> events = repository.getEvents(0L, total);
+        assertEquals(total, events.size());
+        final Set<Long> eventIds = new HashSet<>();
+        for (int i = 0; i < total; i++) {
+            assertEquals(i, events.get(i).getEventId());
+            eventIds.add(events.get(i).getEventId());
+        }
+        assertEquals(total, eventIds.size());
+    }
+
+    private static ProvenanceEventRecord createEvent(final String flowFileUuid) {
+        final ProvenanceEventRecord event = mock(ProvenanceEventRecord.class);
+        when(event.getEventId()).thenReturn(-1L);
+        when(event.getEventType()).thenReturn(ProvenanceEventType.SEND);
+        when(event.getFlowFileUuid()).thenReturn(flowFileUuid);
+        return event;
+    }
+}